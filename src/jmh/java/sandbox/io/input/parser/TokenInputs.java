@@ -0,0 +1,57 @@
+package sandbox.io.input.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Generates benchmark inputs of a given size and token mix, always the same for the same seed.
+ */
+public final class TokenInputs {
+
+    private static final String[] WORDS = {
+            "the", "token", "parser", "stream", "buffer", "Hello", "World", "value", "index", "result"
+    };
+    private static final String[] OPERATORS = {
+            "==", "!=", ">=", "<=", "++", "--", "&&", "||", "::", "=", "+", "(", ")", "{", "}", ";", ","
+    };
+    private static final String[] UNICODE = {"café", "Straße", "日本語", "Ωmega", "naïve"};
+
+    private TokenInputs() {
+    }
+
+    /**
+     * @param mix {@code prose} (words and punctuation), {@code code} (identifiers, numbers and
+     *            operators), {@code numeric} (mostly numbers) or {@code unicode} (prose with
+     *            non-ASCII words)
+     */
+    public static byte[] generate(String mix, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder text = new StringBuilder(size + 64);
+        while (text.length() < size) {
+            switch (mix) {
+                case "prose" -> {
+                    text.append(pick(random, WORDS));
+                    text.append(random.nextInt(8) == 0 ? ". " : " ");
+                }
+                case "code" -> {
+                    text.append(pick(random, WORDS)).append(random.nextInt(4) == 0 ? random.nextInt(100) : "");
+                    text.append(' ').append(pick(random, OPERATORS)).append(' ');
+                    text.append(random.nextInt(1_000_000)).append(random.nextInt(6) == 0 ? ";\n" : " ");
+                }
+                case "numeric" -> {
+                    text.append(random.nextLong(1L << 40)).append(random.nextInt(10) == 0 ? ",\n" : " ");
+                }
+                case "unicode" -> {
+                    text.append(random.nextInt(3) == 0 ? pick(random, UNICODE) : pick(random, WORDS));
+                    text.append(random.nextInt(8) == 0 ? ". " : " ");
+                }
+                default -> throw new IllegalArgumentException("Unknown token mix: " + mix);
+            }
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String pick(SplittableRandom random, String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
@@ -0,0 +1,84 @@
+package sandbox.io.input.parser;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Common setup for the per-parser benchmarks: one generated input per {@code size}/{@code mix},
+ * run through the parser's own {@code parse} entry point with the printed lines going to a
+ * {@link Blackhole} instead of stdout.
+ * <p>
+ * Besides ops/s, the {@link Throughput} counters report {@code bytes} and {@code tokens} per
+ * second; bytes/s divided by 10^6 is MB/s. With {@code -prof gc}, allocation per token is
+ * {@code gc.alloc.rate.norm} divided by the input's token count, which {@link #setUp} prints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class TokenParserBenchmark {
+
+    @Param({"65536", "8388608"})
+    public int size;
+
+    @Param({"prose", "code", "numeric", "unicode"})
+    public String mix;
+
+    protected byte[] input;
+    protected long tokensPerInput;
+
+    @Setup
+    public void setUp() throws IOException {
+        input = TokenInputs.generate(mix, size, 42);
+        long[] tokens = new long[1];
+        runParser(new ByteArrayInputStream(input), line -> tokens[0]++);
+        tokensPerInput = tokens[0];
+        System.out.println("Input " + mix + "/" + size + ": " + input.length + " bytes, " + tokensPerInput + " tokens");
+    }
+
+    /**
+     * Calls the parser's {@code parse(InputStream, Consumer)}, which main() uses with the input file.
+     */
+    protected abstract void runParser(InputStream input, Consumer<String> out) throws IOException;
+
+    @Benchmark
+    public void parse(Throughput counters, Blackhole blackhole) throws IOException {
+        runParser(new ByteArrayInputStream(input), blackhole::consume);
+        counters.bytes += input.length;
+        counters.tokens += tokensPerInput;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+
+        public long bytes;
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            tokens = 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package sandbox.io.input.parser.advancedtokenparser;
+
+import sandbox.io.input.parser.TokenParserBenchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public class AdvancedTokenParserBenchmark extends TokenParserBenchmark {
+
+    @Override
+    protected void runParser(InputStream input, Consumer<String> out) throws IOException {
+        AdvancedTokenParser.parse(input, out);
+    }
+}
@@ -2,12 +2,18 @@ package com.example.springbackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringbackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SpringbackendApplication.class, args);
+		SpringApplication application = new SpringApplication(SpringbackendApplication.class);
+		// ⏱️ Records startup steps for StartupTimingReporter
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,44 @@
+package com.example.springbackend.files;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The directory served by the file endpoints ({@code files.base-dir}, default {@code data}).
+ * Only plain file names directly inside it can be resolved.
+ */
+@Component
+public class DataDirectory {
+
+    private final Path base;
+
+    public DataDirectory(@Value("${files.base-dir:data}") String baseDir) {
+        this.base = Paths.get(baseDir).toAbsolutePath().normalize();
+    }
+
+    public Path base() {
+        return base;
+    }
+
+    /**
+     * Resolves {@code name} inside the directory, rejecting anything that would escape
+     * it (separators, {@code ..}) with 400.
+     */
+    public Path resolve(String name) {
+        try {
+            Path path = base.resolve(name).normalize();
+            if (name.isEmpty() || name.startsWith(".") || !base.equals(path.getParent())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid file name: " + name);
+            }
+            return path;
+        } catch (InvalidPathException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid file name: " + name, e);
+        }
+    }
+}
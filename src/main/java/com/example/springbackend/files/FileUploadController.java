@@ -0,0 +1,104 @@
+package com.example.springbackend.files;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams a request body straight into the {@link DataDirectory}.
+ * <p>
+ * The body is the raw file ({@code curl -T file url}) rather than multipart form data:
+ * servlet multipart parsing spools every part to a temp file before the handler runs,
+ * which is exactly the copy this endpoint avoids. Data flows request stream -> one pooled
+ * direct buffer -> {@link FileChannel}, into a hidden part file that is atomically renamed
+ * once complete, so readers never see a half-written file.
+ */
+@RestController
+public class FileUploadController {
+
+    private final DataDirectory dataDirectory;
+    private final UploadBufferPool bufferPool;
+    private final long maxSize;
+
+    private final Map<String, UploadProgress> inFlight = new ConcurrentHashMap<>();
+
+    public FileUploadController(DataDirectory dataDirectory, UploadBufferPool bufferPool,
+                                @Value("${files.upload.max-size:10GB}") DataSize maxSize) {
+        this.dataDirectory = dataDirectory;
+        this.bufferPool = bufferPool;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    @PutMapping("/files/{name}")
+    public ResponseEntity<UploadStats> upload(@PathVariable String name, HttpServletRequest request)
+            throws IOException {
+        Path target = dataDirectory.resolve(name);
+        if (request.getContentLengthLong() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Upload exceeds " + maxSize + " bytes");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path part = target.resolveSibling("." + name + "." + uploadId + ".part");
+        UploadProgress progress = new UploadProgress(name);
+        inFlight.put(uploadId, progress);
+
+        ByteBuffer buffer = bufferPool.acquire();
+        boolean complete = false;
+        try (ReadableByteChannel in = Channels.newChannel(request.getInputStream());
+             FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long total = 0;
+            while (in.read(buffer) != -1 || buffer.position() > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    int written = out.write(buffer);
+                    total += written;
+                    progress.written(written);
+                }
+                buffer.clear();
+                if (total > maxSize) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Upload exceeds " + maxSize + " bytes");
+                }
+            }
+            out.force(false);
+            complete = true;
+        } finally {
+            bufferPool.release(buffer);
+            inFlight.remove(uploadId);
+            if (!complete) {
+                Files.deleteIfExists(part);
+            }
+        }
+
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return ResponseEntity.status(HttpStatus.CREATED).body(progress.stats());
+    }
+
+    /**
+     * Progress of the uploads currently streaming.
+     */
+    @GetMapping("/uploads")
+    public List<UploadStats> uploadsInFlight() {
+        return inFlight.values().stream().map(UploadProgress::stats).toList();
+    }
+}
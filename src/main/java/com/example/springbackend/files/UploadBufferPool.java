@@ -0,0 +1,51 @@
+package com.example.springbackend.files;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recycles the direct buffers used by uploads. Each upload holds exactly one buffer of
+ * {@code files.upload.buffer-size}, which caps its in-flight memory; up to
+ * {@code files.upload.pooled-buffers} idle buffers are kept for reuse.
+ */
+@Component
+public class UploadBufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public UploadBufferPool(@Value("${files.upload.buffer-size:64KB}") DataSize bufferSize,
+                            @Value("${files.upload.pooled-buffers:16}") int maxPooled) {
+        this.bufferSize = Math.toIntExact(bufferSize.toBytes());
+        this.maxPooled = maxPooled;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        if (pooled.incrementAndGet() <= maxPooled) {
+            pool.offer(buffer);
+        } else {
+            pooled.decrementAndGet(); // 🗑️ Pool is full, let the GC free it
+        }
+    }
+}
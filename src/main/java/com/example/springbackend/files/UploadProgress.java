@@ -0,0 +1,28 @@
+package com.example.springbackend.files;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of one upload; {@code bytesWritten} is updated after every buffer written.
+ */
+public class UploadProgress {
+
+    private final String name;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    UploadProgress(String name) {
+        this.name = name;
+    }
+
+    void written(long bytes) {
+        bytesWritten.addAndGet(bytes);
+    }
+
+    public UploadStats stats() {
+        long bytes = bytesWritten.get();
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        double megabytesPerSecond = bytes / 1_000_000.0 / (elapsedNanos / 1_000_000_000.0);
+        return new UploadStats(name, bytes, elapsedNanos / 1_000_000, megabytesPerSecond);
+    }
+}
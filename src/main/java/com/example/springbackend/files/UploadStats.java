@@ -0,0 +1,7 @@
+package com.example.springbackend.files;
+
+/**
+ * Bytes written and average throughput of an upload, finished or in flight.
+ */
+public record UploadStats(String name, long bytesWritten, long elapsedMillis, double megabytesPerSecond) {
+}
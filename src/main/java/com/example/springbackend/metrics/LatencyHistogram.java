@@ -0,0 +1,104 @@
+package com.example.springbackend.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, log-linear latency histogram in the spirit of HdrHistogram.
+ * <p>
+ * Values (microseconds) below 16 get their own bucket; above that every power of two
+ * is split into 8 linear sub-buckets, which bounds the relative error at 12.5%.
+ * Buckets are striped by thread so concurrent recorders rarely hit the same cache line.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+
+    // ⏱️ 2^40 µs is roughly 12.7 days; anything slower lands in the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS + LINEAR_LIMIT;
+
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.min(8, Math.max(1, Runtime.getRuntime().availableProcessors())) * 2 - 1);
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    public void record(long micros) {
+        int stripe = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+        stripes[stripe].incrementAndGet(bucketOf(micros));
+    }
+
+    /**
+     * Merges the stripes into one array of bucket counts. Concurrent recordings may or
+     * may not be included; each bucket is read atomically.
+     */
+    public long[] counts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the value at {@code quantile} (0..1) of the given bucket counts, reported
+     * as the midpoint of the bucket it falls in, or 0 for an empty histogram.
+     */
+    public static long valueAt(long[] counts, double quantile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (lowerBound(i) + upperBound(i)) / 2;
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) Math.max(0, value);
+        }
+        value = Math.min(value, MAX_VALUE);
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (bucket % SUB_BUCKETS);
+        return subBucket << shift;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (bucket % SUB_BUCKETS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.springbackend.metrics;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RequestMetricsConfiguration implements WebMvcConfigurer {
+
+    private final RequestMetricsRegistry registry;
+
+    public RequestMetricsConfiguration(RequestMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new RequestMetricsInterceptor(registry));
+    }
+}
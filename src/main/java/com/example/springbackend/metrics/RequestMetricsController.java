@@ -0,0 +1,21 @@
+package com.example.springbackend.metrics;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class RequestMetricsController {
+
+    private final RequestMetricsRegistry registry;
+
+    public RequestMetricsController(RequestMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping("/metrics/requests")
+    public List<RouteStats> requests() {
+        return registry.stats();
+    }
+}
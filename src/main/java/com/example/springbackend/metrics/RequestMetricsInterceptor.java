@@ -0,0 +1,52 @@
+package com.example.springbackend.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Times every handled request from the first {@code preHandle} to {@code afterCompletion}.
+ * <p>
+ * Async handlers (e.g. streaming responses) are dispatched twice; the start time is kept
+ * in a request attribute so the redispatch does not restart the clock and the request is
+ * recorded once, when it really completes.
+ */
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    private static final String ROUTE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".route";
+
+    private final RequestMetricsRegistry registry;
+
+    public RequestMetricsInterceptor(RequestMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            RouteMetrics route = registry.route(request.getMethod(), pattern != null ? pattern.toString() : "UNMATCHED");
+            route.started();
+            request.setAttribute(ROUTE_ATTRIBUTE, route);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        Object route = request.getAttribute(ROUTE_ATTRIBUTE);
+        if (start == null || route == null) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        request.removeAttribute(ROUTE_ATTRIBUTE);
+
+        long micros = (System.nanoTime() - (Long) start) / 1_000;
+        ((RouteMetrics) route).completed(micros, response.getStatus(), ex != null);
+    }
+}
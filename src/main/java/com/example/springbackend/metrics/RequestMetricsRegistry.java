@@ -0,0 +1,30 @@
+package com.example.springbackend.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link RouteMetrics} per "METHOD /pattern" route key.
+ */
+@Component
+public class RequestMetricsRegistry {
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    RouteMetrics route(String method, String pattern) {
+        String key = method + " " + pattern;
+        RouteMetrics metrics = routes.get(key); // 🚀 Plain get first: no lock once the route exists
+        return metrics != null ? metrics : routes.computeIfAbsent(key, RouteMetrics::new);
+    }
+
+    public List<RouteStats> stats() {
+        return routes.values().stream()
+                .map(RouteMetrics::stats)
+                .sorted(Comparator.comparing(RouteStats::route))
+                .toList();
+    }
+}
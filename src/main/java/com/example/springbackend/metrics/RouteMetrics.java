@@ -0,0 +1,69 @@
+package com.example.springbackend.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram for one route. Every field is updated without
+ * locks; the striped {@link LongAdder}s keep concurrent requests off a shared counter.
+ */
+public class RouteMetrics {
+
+    private final String route;
+    private final long createdNanos = System.nanoTime();
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    RouteMetrics(String route) {
+        this.route = route;
+    }
+
+    void started() {
+        inFlight.increment();
+    }
+
+    void completed(long micros, int status, boolean failed) {
+        inFlight.decrement();
+        requests.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+        latency.record(micros);
+
+        if (failed || status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    /**
+     * Percentiles are bucket midpoints, capped at the exact maximum seen.
+     */
+    public RouteStats stats() {
+        long count = requests.sum();
+        long max = maxMicros.get();
+        long[] counts = latency.counts();
+        double elapsedSeconds = (System.nanoTime() - createdNanos) / 1_000_000_000.0;
+
+        return new RouteStats(
+                route,
+                count,
+                inFlight.sum(),
+                serverErrors.sum(),
+                clientErrors.sum(),
+                count == 0 ? 0 : (double) serverErrors.sum() / count,
+                elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                count == 0 ? 0 : totalMicros.sum() / count,
+                Math.min(max, LatencyHistogram.valueAt(counts, 0.50)),
+                Math.min(max, LatencyHistogram.valueAt(counts, 0.90)),
+                Math.min(max, LatencyHistogram.valueAt(counts, 0.99)),
+                Math.min(max, LatencyHistogram.valueAt(counts, 0.999)),
+                max);
+    }
+}
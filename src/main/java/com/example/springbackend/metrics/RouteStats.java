@@ -0,0 +1,21 @@
+package com.example.springbackend.metrics;
+
+/**
+ * Point-in-time view of a {@link RouteMetrics}. Latencies are microseconds; the
+ * throughput is averaged over the time since the route was first seen.
+ */
+public record RouteStats(
+        String route,
+        long requests,
+        long inFlight,
+        long serverErrors,
+        long clientErrors,
+        double errorRate,
+        double requestsPerSecond,
+        long meanMicros,
+        long p50Micros,
+        long p90Micros,
+        long p99Micros,
+        long p999Micros,
+        long maxMicros) {
+}
@@ -0,0 +1,21 @@
+package com.example.springbackend.runtime;
+
+/**
+ * Columnar copy of the retained samples, oldest first. Index {@code i} of every
+ * array belongs to the same sample; {@code sequence} counts all samples ever taken.
+ */
+public record RuntimeHistory(
+        long sequence,
+        long[] timestamps,
+        long[] heapUsed,
+        long[] heapCommitted,
+        long[] nonHeapUsed,
+        long[] nonHeapCommitted,
+        long[] gcCount,
+        long[] gcTimeMillis,
+        int[] threadCount,
+        int[] daemonThreadCount,
+        long[] allocationRateBytesPerSecond,
+        double[] processCpuLoad,
+        double[] systemCpuLoad) {
+}
@@ -0,0 +1,53 @@
+package com.example.springbackend.runtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+public class RuntimeMetricsController {
+
+    private final RuntimeMetricsSampler sampler;
+    private final ObjectMapper objectMapper;
+
+    // 📦 History body encoded for one sample sequence, reused until the next sample lands
+    private volatile EncodedHistory encodedHistory;
+
+    public RuntimeMetricsController(RuntimeMetricsSampler sampler, ObjectMapper objectMapper) {
+        this.sampler = sampler;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/runtime/metrics")
+    public RuntimeSample latest() {
+        RuntimeSample sample = sampler.history().latest();
+        if (sample == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "No runtime sample taken yet");
+        }
+        return sample;
+    }
+
+    /**
+     * Returns the retained samples as parallel arrays, oldest first. The encoded body
+     * is shared by every request until the sampler records again.
+     */
+    @GetMapping(value = "/runtime/metrics/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> history() throws JsonProcessingException {
+        RuntimeMetricsHistory history = sampler.history();
+        EncodedHistory encoded = encodedHistory;
+        if (encoded == null || encoded.sequence() != history.sequence()) {
+            RuntimeHistory snapshot = history.snapshot();
+            encoded = new EncodedHistory(snapshot.sequence(), objectMapper.writeValueAsBytes(snapshot));
+            encodedHistory = encoded;
+        }
+        return ResponseEntity.ok(encoded.json());
+    }
+
+    private record EncodedHistory(long sequence, byte[] json) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.springbackend.runtime;
+
+/**
+ * Fixed-size ring buffer of runtime samples, stored column by column in primitive arrays.
+ * <p>
+ * Recording a sample only overwrites the oldest slot, so the buffer never allocates after
+ * construction. A single sampler thread writes; readers copy out under the same monitor.
+ */
+public class RuntimeMetricsHistory {
+
+    private final int capacity;
+
+    private final long[] timestamps;
+    private final long[] heapUsed;
+    private final long[] heapCommitted;
+    private final long[] nonHeapUsed;
+    private final long[] nonHeapCommitted;
+    private final long[] gcCount;
+    private final long[] gcTimeMillis;
+    private final int[] threadCount;
+    private final int[] daemonThreadCount;
+    private final long[] allocationRate;
+    private final double[] processCpuLoad;
+    private final double[] systemCpuLoad;
+
+    private long sequence; // 🔢 Total number of samples ever recorded
+
+    public RuntimeMetricsHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.heapUsed = new long[capacity];
+        this.heapCommitted = new long[capacity];
+        this.nonHeapUsed = new long[capacity];
+        this.nonHeapCommitted = new long[capacity];
+        this.gcCount = new long[capacity];
+        this.gcTimeMillis = new long[capacity];
+        this.threadCount = new int[capacity];
+        this.daemonThreadCount = new int[capacity];
+        this.allocationRate = new long[capacity];
+        this.processCpuLoad = new double[capacity];
+        this.systemCpuLoad = new double[capacity];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    synchronized void record(long timestamp, long heapUsed, long heapCommitted, long nonHeapUsed,
+                             long nonHeapCommitted, long gcCount, long gcTimeMillis, int threadCount,
+                             int daemonThreadCount, long allocationRate, double processCpuLoad,
+                             double systemCpuLoad) {
+        int slot = (int) (sequence % capacity);
+        this.timestamps[slot] = timestamp;
+        this.heapUsed[slot] = heapUsed;
+        this.heapCommitted[slot] = heapCommitted;
+        this.nonHeapUsed[slot] = nonHeapUsed;
+        this.nonHeapCommitted[slot] = nonHeapCommitted;
+        this.gcCount[slot] = gcCount;
+        this.gcTimeMillis[slot] = gcTimeMillis;
+        this.threadCount[slot] = threadCount;
+        this.daemonThreadCount[slot] = daemonThreadCount;
+        this.allocationRate[slot] = allocationRate;
+        this.processCpuLoad[slot] = processCpuLoad;
+        this.systemCpuLoad[slot] = systemCpuLoad;
+        sequence++;
+    }
+
+    /**
+     * The most recent sample, or {@code null} if nothing has been recorded yet.
+     */
+    public synchronized RuntimeSample latest() {
+        if (sequence == 0) {
+            return null;
+        }
+        int slot = (int) ((sequence - 1) % capacity);
+        return new RuntimeSample(timestamps[slot], heapUsed[slot], heapCommitted[slot], nonHeapUsed[slot],
+                nonHeapCommitted[slot], gcCount[slot], gcTimeMillis[slot], threadCount[slot],
+                daemonThreadCount[slot], allocationRate[slot], processCpuLoad[slot], systemCpuLoad[slot]);
+    }
+
+    /**
+     * Copies the retained samples, oldest first, into a columnar {@link RuntimeHistory}.
+     */
+    public synchronized RuntimeHistory snapshot() {
+        int size = (int) Math.min(sequence, capacity);
+        int first = (int) ((sequence - size) % capacity);
+
+        long[] timestamps = new long[size];
+        long[] heapUsed = new long[size];
+        long[] heapCommitted = new long[size];
+        long[] nonHeapUsed = new long[size];
+        long[] nonHeapCommitted = new long[size];
+        long[] gcCount = new long[size];
+        long[] gcTimeMillis = new long[size];
+        int[] threadCount = new int[size];
+        int[] daemonThreadCount = new int[size];
+        long[] allocationRate = new long[size];
+        double[] processCpuLoad = new double[size];
+        double[] systemCpuLoad = new double[size];
+
+        // ↩️ The retained window may wrap around the end of the arrays
+        int head = Math.min(size, capacity - first);
+        int tail = size - head;
+        copy(first, head, tail, this.timestamps, timestamps);
+        copy(first, head, tail, this.heapUsed, heapUsed);
+        copy(first, head, tail, this.heapCommitted, heapCommitted);
+        copy(first, head, tail, this.nonHeapUsed, nonHeapUsed);
+        copy(first, head, tail, this.nonHeapCommitted, nonHeapCommitted);
+        copy(first, head, tail, this.gcCount, gcCount);
+        copy(first, head, tail, this.gcTimeMillis, gcTimeMillis);
+        copy(first, head, tail, this.threadCount, threadCount);
+        copy(first, head, tail, this.daemonThreadCount, daemonThreadCount);
+        copy(first, head, tail, this.allocationRate, allocationRate);
+        copy(first, head, tail, this.processCpuLoad, processCpuLoad);
+        copy(first, head, tail, this.systemCpuLoad, systemCpuLoad);
+
+        return new RuntimeHistory(sequence, timestamps, heapUsed, heapCommitted, nonHeapUsed, nonHeapCommitted,
+                gcCount, gcTimeMillis, threadCount, daemonThreadCount, allocationRate, processCpuLoad,
+                systemCpuLoad);
+    }
+
+    private static void copy(int first, int head, int tail, Object source, Object target) {
+        System.arraycopy(source, first, target, 0, head);
+        System.arraycopy(source, 0, target, head, tail);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.springbackend.runtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Reads the platform MXBeans on a fixed schedule and records the values into a
+ * {@link RuntimeMetricsHistory}. Requests only ever read what was sampled here.
+ */
+@Component
+public class RuntimeMetricsSampler {
+
+    private final RuntimeMetricsHistory history;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private long lastTimestamp;
+    private long lastAllocatedBytes = -1;
+
+    public RuntimeMetricsSampler(@Value("${runtime.metrics.history-size:120}") int historySize) {
+        this.history = new RuntimeMetricsHistory(historySize);
+    }
+
+    public RuntimeMetricsHistory history() {
+        return history;
+    }
+
+    @Scheduled(fixedRateString = "${runtime.metrics.sample-interval-ms:5000}")
+    public void sample() {
+        long now = System.currentTimeMillis();
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+
+        // 🧹 Summed over all collectors (young + old); both values are cumulative
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcTime += Math.max(0, collector.getCollectionTime());
+        }
+
+        history.record(now, heap.getUsed(), heap.getCommitted(), nonHeap.getUsed(), nonHeap.getCommitted(),
+                gcCount, gcTime, threads.getThreadCount(), threads.getDaemonThreadCount(),
+                allocationRate(now), processCpuLoad(), systemCpuLoad());
+    }
+
+    private long allocationRate(long now) {
+        if (!(threads instanceof com.sun.management.ThreadMXBean hotspotThreads)
+                || !hotspotThreads.isThreadAllocatedMemorySupported()
+                || !hotspotThreads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        long allocated = hotspotThreads.getTotalThreadAllocatedBytes();
+        long rate = -1;
+        if (allocated >= 0 && lastAllocatedBytes >= 0 && now > lastTimestamp) {
+            rate = (allocated - lastAllocatedBytes) * 1000 / (now - lastTimestamp);
+        }
+        lastAllocatedBytes = allocated;
+        lastTimestamp = now;
+        return rate;
+    }
+
+    private double processCpuLoad() {
+        return os instanceof com.sun.management.OperatingSystemMXBean hotspotOs ? hotspotOs.getProcessCpuLoad() : -1;
+    }
+
+    private double systemCpuLoad() {
+        return os instanceof com.sun.management.OperatingSystemMXBean hotspotOs ? hotspotOs.getCpuLoad() : -1;
+    }
+}
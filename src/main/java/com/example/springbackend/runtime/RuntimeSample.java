@@ -0,0 +1,21 @@
+package com.example.springbackend.runtime;
+
+/**
+ * One point-in-time reading of the JVM. Memory values are bytes, CPU loads are
+ * fractions in {@code [0, 1]} (or negative when the platform cannot report them),
+ * and the GC figures are cumulative since JVM start.
+ */
+public record RuntimeSample(
+        long timestamp,
+        long heapUsed,
+        long heapCommitted,
+        long nonHeapUsed,
+        long nonHeapCommitted,
+        long gcCount,
+        long gcTimeMillis,
+        int threadCount,
+        int daemonThreadCount,
+        long allocationRateBytesPerSecond,
+        double processCpuLoad,
+        double systemCpuLoad) {
+}
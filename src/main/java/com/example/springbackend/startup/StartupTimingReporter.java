@@ -0,0 +1,145 @@
+package com.example.springbackend.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs a phase-by-phase breakdown of application startup once the application is ready.
+ * <p>
+ * Phase durations come from the {@link BufferingApplicationStartup} installed by
+ * {@code SpringbackendApplication#main}; when it is absent (e.g. in tests) nothing is logged.
+ * Web server start is not a recorded step, so it is measured here by running as the
+ * lifecycle bean just before the web server's own.
+ */
+@Component
+public class StartupTimingReporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    // 🌐 Boot starts the embedded web server in phase DEFAULT_PHASE - 2048
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2049;
+
+    private volatile boolean running;
+    private volatile Instant webServerStarting;
+    private volatile Instant webServerStarted;
+
+    @Override
+    public void start() {
+        webServerStarting = Instant.now();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        webServerStarted = Instant.now();
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        Instant ready = Instant.now();
+        Instant jvmStart = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        StartupTimeline.TimelineEvent refresh = first(events, "spring.context.refresh");
+        Instant refreshStart = refresh != null ? refresh.getStartTime() : timeline.getStartTime();
+        Instant refreshEnd = refresh != null ? refresh.getEndTime() : ready;
+
+        StringBuilder report = new StringBuilder("Startup timing (ms):");
+        line(report, "JVM start -> SpringApplication.run", between(jvmStart, timeline.getStartTime()));
+        line(report, "environment and context preparation", between(timeline.getStartTime(), refreshStart));
+        line(report, "context refresh", between(refreshStart, refreshEnd));
+        line(report, "  bean factory post-processing", total(events, "spring.context.beans.post-process"));
+        line(report, "  bean instantiation", topLevelTotal(events, "spring.beans.instantiate"));
+        line(report, "  smart singleton initialization", total(events, "spring.beans.smart-initialize"));
+        line(report, "  web server create", total(events, "spring.boot.webserver.create"));
+        if (webServerStarting != null && webServerStarted != null) {
+            line(report, "  web server start", between(webServerStarting, webServerStarted));
+        }
+        line(report, "runners and ready listeners", between(refreshEnd, ready));
+        line(report, "total since JVM start", between(jvmStart, ready));
+        log.info(report.toString());
+    }
+
+    private static StartupTimeline.TimelineEvent first(List<StartupTimeline.TimelineEvent> events, String name) {
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (event.getStartupStep().getName().equals(name)) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    private static Duration total(List<StartupTimeline.TimelineEvent> events, String name) {
+        Duration total = Duration.ZERO;
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (event.getStartupStep().getName().equals(name)) {
+                total = total.plus(event.getDuration());
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sums only the outermost steps with this name, since nested bean creation is
+     * already included in the duration of the bean that triggered it.
+     */
+    private static Duration topLevelTotal(List<StartupTimeline.TimelineEvent> events, String name) {
+        Map<Long, String> namesById = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            namesById.put(event.getStartupStep().getId(), event.getStartupStep().getName());
+        }
+
+        Duration total = Duration.ZERO;
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (event.getStartupStep().getName().equals(name) && !name.equals(namesById.get(parentId))) {
+                total = total.plus(event.getDuration());
+            }
+        }
+        return total;
+    }
+
+    private static Duration between(Instant start, Instant end) {
+        return Duration.between(start, end);
+    }
+
+    private static void line(StringBuilder report, String phase, Duration duration) {
+        report.append(String.format("%n  %-40s %6d", phase, duration.toMillis()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.springbackend.system;
+
+/**
+ * Minimal glob matcher for property names: {@code *} matches any run of
+ * characters and {@code ?} matches exactly one. Matching walks the name once
+ * with single-point backtracking and never allocates.
+ */
+final class GlobPattern {
+
+    private final String pattern;
+    private final String literalPrefix;
+
+    private GlobPattern(String pattern) {
+        this.pattern = pattern;
+        int firstWildcard = 0;
+        while (firstWildcard < pattern.length() && !isWildcard(pattern.charAt(firstWildcard))) {
+            firstWildcard++;
+        }
+        this.literalPrefix = pattern.substring(0, firstWildcard);
+    }
+
+    static GlobPattern compile(String pattern) {
+        return new GlobPattern(pattern);
+    }
+
+    /**
+     * The characters before the first wildcard. Every matching name starts with it,
+     * so it can be used to narrow a sorted range before matching.
+     */
+    String literalPrefix() {
+        return literalPrefix;
+    }
+
+    boolean matches(String name) {
+        int p = 0;
+        int n = 0;
+        int starP = -1;
+        int starN = 0;
+
+        while (n < name.length()) {
+            if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == name.charAt(n))) {
+                p++;
+                n++;
+            } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                starP = p++;
+                starN = n;
+            } else if (starP >= 0) {
+                // ↩️ Let the last '*' swallow one more character and retry
+                p = starP + 1;
+                n = ++starN;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+        return p == pattern.length();
+    }
+
+    private static boolean isWildcard(char ch) {
+        return ch == '*' || ch == '?';
+    }
+}
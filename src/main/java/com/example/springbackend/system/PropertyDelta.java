@@ -0,0 +1,12 @@
+package com.example.springbackend.system;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between two consecutive snapshots of the raw system properties.
+ * {@code sequence} is the feed position a client can resume after.
+ */
+public record PropertyDelta(long sequence, Map<String, String> added, Map<String, String> changed,
+                            List<String> removed) {
+}
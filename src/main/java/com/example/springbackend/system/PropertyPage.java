@@ -0,0 +1,12 @@
+package com.example.springbackend.system;
+
+import java.util.Map;
+
+/**
+ * One page of a property query. {@code nextCursor} is the name of the last
+ * returned property, or {@code null} when there are no more candidates.
+ */
+public record PropertyPage(Map<String, String> items, String nextCursor) {
+
+    static final PropertyPage EMPTY = new PropertyPage(Map.of(), null);
+}
@@ -0,0 +1,9 @@
+package com.example.springbackend.system;
+
+import java.util.Map;
+
+/**
+ * Full state sent to a change-feed subscriber that cannot be resumed from a sequence number.
+ */
+public record PropertySnapshotEvent(long sequence, Map<String, String> properties) {
+}
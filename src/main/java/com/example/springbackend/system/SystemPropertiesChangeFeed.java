@@ -0,0 +1,236 @@
+package com.example.springbackend.system;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns successive snapshots into {@link PropertyDelta}s and pushes them to SSE subscribers.
+ * <p>
+ * Each delta gets the next sequence number, and its SSE event id is {@code <epoch>-<sequence>}.
+ * The epoch is drawn at random when the feed starts, because sequences restart at 0 with every
+ * JVM: an id from an earlier run or another instance must not look like a position in this one.
+ * The last {@code system.properties.changes.history-size} deltas are kept, so a client that
+ * reconnects with {@code Last-Event-ID} receives only what it missed; anyone further behind, or
+ * with an id from another epoch or one that does not parse, gets a full
+ * {@link PropertySnapshotEvent} instead.
+ * <p>
+ * Diffing and all network writes happen on one dedicated fan-out thread, which also owns the
+ * feed's state. Whoever publishes a snapshot (or subscribes) only enqueues a task, so a slow
+ * SSE client can delay other SSE clients but never an HTTP request thread.
+ */
+@Component
+public class SystemPropertiesChangeFeed {
+
+    private final SystemPropertiesSnapshotCache snapshotCache;
+    private final int historySize;
+    private final long emitterTimeoutMillis;
+    private final String epoch = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("property-change-feed").daemon().factory());
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    // 🧵 Only touched on the fan-out thread
+    private final Deque<PropertyDelta> history = new ArrayDeque<>();
+    private SystemPropertiesSnapshot last;
+    private long sequence;
+
+    public SystemPropertiesChangeFeed(SystemPropertiesSnapshotCache snapshotCache,
+                                      @Value("${system.properties.changes.history-size:256}") int historySize,
+                                      @Value("${system.properties.changes.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.snapshotCache = snapshotCache;
+        this.historySize = historySize;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @EventListener
+    public void onSnapshotChanged(SystemPropertiesChangedEvent event) {
+        submit(() -> publish(event.snapshot()));
+    }
+
+    /**
+     * Registers a subscriber; whatever it missed since {@code lastEventId} is sent from the
+     * fan-out thread, ahead of any newer delta.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        long resumeAfter = resumePoint(lastEventId);
+        submit(() -> register(emitter, resumeAfter));
+        return emitter;
+    }
+
+    /**
+     * The sequence number in an event id from this epoch, or -1 when there is nothing to resume.
+     */
+    private long resumePoint(String lastEventId) {
+        if (lastEventId == null
+                || lastEventId.length() <= epoch.length() + 1
+                || !lastEventId.startsWith(epoch)
+                || lastEventId.charAt(epoch.length()) != '-') {
+            return -1;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId, epoch.length() + 1, lastEventId.length(), 10);
+            return sequence >= 0 ? sequence : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void publish(SystemPropertiesSnapshot current) {
+        if (last == null) {
+            last = current;
+            return;
+        }
+        if (current.version() <= last.version()) {
+            return; // ⏭️ A newer snapshot was already diffed
+        }
+
+        PropertyDelta delta = diff(sequence + 1, last.index(), current.index());
+        last = current;
+        if (delta.added().isEmpty() && delta.changed().isEmpty() && delta.removed().isEmpty()) {
+            return;
+        }
+
+        sequence = delta.sequence();
+        history.addLast(delta);
+        if (history.size() > historySize) {
+            history.removeFirst();
+        }
+        for (SseEmitter subscriber : subscribers) {
+            send(subscriber, delta); // ✂️ Drops the subscriber if the write fails
+        }
+    }
+
+    private void register(SseEmitter emitter, long resumeAfter) {
+        if (last == null) {
+            last = snapshotCache.current();
+        }
+
+        boolean resumable = resumeAfter >= 0 && resumeAfter <= sequence
+                && (resumeAfter == sequence || (!history.isEmpty() && history.peekFirst().sequence() <= resumeAfter + 1));
+        boolean delivered;
+        if (resumable) {
+            delivered = true;
+            for (PropertyDelta delta : history) {
+                if (delta.sequence() > resumeAfter && !send(emitter, delta)) {
+                    delivered = false;
+                    break;
+                }
+            }
+        } else {
+            delivered = sendSnapshot(emitter);
+        }
+
+        if (delivered) {
+            subscribers.add(emitter);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            fanOut.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 🛑 Shutting down; nothing left to deliver to
+        }
+    }
+
+    /**
+     * Ends open streams on shutdown so they do not hold up a graceful stop.
+     */
+    @PreDestroy
+    public void close() {
+        fanOut.shutdownNow();
+        for (SseEmitter subscriber : subscribers) {
+            subscriber.complete();
+        }
+        subscribers.clear();
+    }
+
+    private boolean send(SseEmitter emitter, PropertyDelta delta) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(delta.sequence()))
+                    .name("delta")
+                    .data(delta));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private boolean sendSnapshot(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(sequence))
+                    .name("snapshot")
+                    .data(new PropertySnapshotEvent(sequence, last.index().toMap())));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Both indexes are sorted by name, so a single merge pass finds every difference.
+     */
+    private static PropertyDelta diff(long sequence, SystemPropertiesIndex before, SystemPropertiesIndex after) {
+        Map<String, String> added = new LinkedHashMap<>();
+        Map<String, String> changed = new LinkedHashMap<>();
+        List<String> removed = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            int order;
+            if (i == before.size()) {
+                order = 1;
+            } else if (j == after.size()) {
+                order = -1;
+            } else {
+                order = before.keyAt(i).compareTo(after.keyAt(j));
+            }
+
+            if (order < 0) {
+                removed.add(before.keyAt(i++));
+            } else if (order > 0) {
+                added.put(after.keyAt(j), after.valueAt(j));
+                j++;
+            } else {
+                if (!before.valueAt(i).equals(after.valueAt(j))) {
+                    changed.put(after.keyAt(j), after.valueAt(j));
+                }
+                i++;
+                j++;
+            }
+        }
+        return new PropertyDelta(sequence, added, changed, removed);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.springbackend.system;
+
+/**
+ * Published by {@link SystemPropertiesSnapshotCache} whenever it builds a new snapshot.
+ * Events may arrive out of order under concurrent rebuilds; compare
+ * {@link SystemPropertiesSnapshot#version()} to order them.
+ */
+public record SystemPropertiesChangedEvent(SystemPropertiesSnapshot snapshot) {
+}
@@ -1,59 +1,198 @@
 package com.example.springbackend.system;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Map;
-import java.util.Properties;
 
 @RestController
 public class SystemPropertiesController {
 
-    @GetMapping("/v1/getAll")
-    public void getAllPropertiesV1() {
-        // 📂 Current working directory (where relative paths resolve from)
-        String workingDir = System.getProperty("user.dir");
-        System.out.println("Working Directory: " + workingDir);
+    private static final int NDJSON_FLUSH_BATCH = 64;
+    private static final int MAX_PAGE_SIZE = 1000;
 
-        // 🏠 User's home directory
-        String userHome = System.getProperty("user.home");
-        System.out.println("User Home: " + userHome);
+    private final SystemPropertiesSnapshotCache snapshotCache;
+    private final SystemPropertiesChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
 
-        // 💻 OS and Java environment info
-        System.out.println("OS Name: " + System.getProperty("os.name"));
-        System.out.println("OS Version: " + System.getProperty("os.version"));
-        System.out.println("Java Version: " + System.getProperty("java.version"));
-        System.out.println("Java Vendor: " + System.getProperty("java.vendor"));
+    public SystemPropertiesController(SystemPropertiesSnapshotCache snapshotCache,
+                                      SystemPropertiesChangeFeed changeFeed, ObjectMapper objectMapper) {
+        this.snapshotCache = snapshotCache;
+        this.changeFeed = changeFeed;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams every property as one {@code {"key":..,"value":..}} line of NDJSON.
+     * Lines go through the generator's recycled buffer and are flushed in batches,
+     * so memory stays flat and nothing is written to stdout.
+     */
+    @GetMapping(value = "/v1/getAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllPropertiesV1() {
+        Map<String, String> properties = snapshotCache.current().properties();
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                int pending = 0;
+                for (Map.Entry<String, String> entry : properties.entrySet()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("key", entry.getKey());
+                    generator.writeStringField("value", entry.getValue());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
 
-        // 🔍 Optional: see all properties
-        System.getProperties().forEach((key, value) -> {
-            System.out.println(key + " = " + value);
-        });
+                    if (++pending == NDJSON_FLUSH_BATCH) {
+                        generator.flush();
+                        pending = 0;
+                    }
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
-    @GetMapping("/v2/getAll")
-    public Map<String, String> getAllPropertiesV2() {
-        Map<String, String> propertiesMap = new HashMap<>();
+    /**
+     * Serves the cached, pre-encoded snapshot. JSON is the default; clients that prefer
+     * {@code application/cbor} get the CBOR body, and JSON clients accepting gzip get the
+     * pre-compressed body. A matching {@code If-None-Match} is answered with 304 by
+     * {@link ResponseEntity} handling, without writing a body.
+     */
+    @GetMapping(value = "/v2/getAll", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> getAllPropertiesV2(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SystemPropertiesSnapshot snapshot = snapshotCache.current();
 
-        // 📂 Current working directory
-        propertiesMap.put("workingDir", System.getProperty("user.dir"));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
 
-        // 🏠 User's home directory
-        propertiesMap.put("userHome", System.getProperty("user.home"));
+        if (prefersCbor(accept)) {
+            return response.contentType(MediaType.APPLICATION_CBOR)
+                    .eTag(snapshot.cborEtag())
+                    .body(snapshot.cbor());
+        }
+        if (acceptsGzip(acceptEncoding)) {
+            return response.contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(snapshot.gzipEtag())
+                    .body(snapshot.gzippedJson());
+        }
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .body(snapshot.json());
+    }
+
+    /**
+     * Queries the sorted property index by name prefix and/or glob ({@code *}, {@code ?}).
+     * Results are paged in name order; pass the returned {@code nextCursor} back as
+     * {@code cursor} to continue.
+     */
+    @GetMapping("/v3/properties")
+    public ResponseEntity<PropertyPage> queryProperties(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) String glob,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
-        // 💻 OS and Java environment info
-        propertiesMap.put("osName", System.getProperty("os.name"));
-        propertiesMap.put("osVersion", System.getProperty("os.version"));
-        propertiesMap.put("javaVersion", System.getProperty("java.version"));
-        propertiesMap.put("javaVendor", System.getProperty("java.vendor"));
+        SystemPropertiesSnapshot snapshot = snapshotCache.current();
+        PropertyPage page = snapshot.index().query(prefix,
+                glob == null ? null : GlobPattern.compile(glob), decodeCursor(cursor), limit);
 
-        // 🔍 Optional: Add all system properties
-        Properties sysProps = System.getProperties();
-        for (String key : sysProps.stringPropertyNames()) {
-            propertiesMap.putIfAbsent(key, sysProps.getProperty(key));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.etag())
+                .body(new PropertyPage(page.items(), encodeCursor(page.nextCursor())));
+    }
+
+    /**
+     * Server-Sent Events feed of property changes: {@code delta} events carry only the
+     * added, changed and removed keys. Reconnecting with {@code Last-Event-ID} resumes
+     * after that delta, or starts over with a full {@code snapshot} event if it is too old or
+     * was issued before a restart.
+     */
+    @GetMapping(value = "/v3/properties/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter propertyChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+
+    private static String encodeCursor(String key) {
+        if (key == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed cursor", e);
+        }
+    }
+
+    /**
+     * CBOR wins only when it is named explicitly and ranked above JSON; wildcards and
+     * ties fall back to JSON.
+     */
+    private static boolean prefersCbor(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return false;
+        }
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                double quality = type.getQualityValue();
+                if (!type.isWildcardSubtype() && type.includes(MediaType.APPLICATION_CBOR)) {
+                    cborQuality = Math.max(cborQuality, quality);
+                } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                    jsonQuality = Math.max(jsonQuality, quality);
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
         }
+        return cborQuality > 0 && cborQuality > jsonQuality;
+    }
 
-        return propertiesMap;
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
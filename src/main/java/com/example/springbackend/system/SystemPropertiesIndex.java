@@ -0,0 +1,103 @@
+package com.example.springbackend.system;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, sorted index over the raw system properties of one snapshot.
+ * <p>
+ * Names are kept in a sorted array, so a prefix query is a binary search for
+ * the start of the range followed by a scan of just the matching names.
+ */
+public final class SystemPropertiesIndex {
+
+    private final String[] keys;
+    private final String[] values;
+
+    SystemPropertiesIndex(Map<String, String> sortedProperties) {
+        this.keys = sortedProperties.keySet().toArray(new String[0]);
+        this.values = sortedProperties.values().toArray(new String[0]);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    String keyAt(int i) {
+        return keys[i];
+    }
+
+    String valueAt(int i) {
+        return values[i];
+    }
+
+    /**
+     * Exact comparison with a name-sorted map, in one pass and without building another index.
+     */
+    boolean contentEquals(Map<String, String> sortedProperties) {
+        if (sortedProperties.size() != keys.length) {
+            return false;
+        }
+        int i = 0;
+        for (Map.Entry<String, String> entry : sortedProperties.entrySet()) {
+            if (!keys[i].equals(entry.getKey()) || !values[i].equals(entry.getValue())) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Returns up to {@code limit} properties whose names start with {@code prefix}
+     * and match {@code glob} (if any), in name order, strictly after {@code after}.
+     */
+    PropertyPage query(String prefix, GlobPattern glob, String after, int limit) {
+        if (glob != null) {
+            String globPrefix = glob.literalPrefix();
+            if (globPrefix.startsWith(prefix)) {
+                prefix = globPrefix;
+            } else if (!prefix.startsWith(globPrefix)) {
+                return PropertyPage.EMPTY; // 🚫 The two prefixes can never both match
+            }
+        }
+
+        int from = lowerBound(prefix);
+        if (after != null && after.compareTo(prefix) >= 0) {
+            from = Math.max(from, upperBound(after));
+        }
+
+        Map<String, String> items = new LinkedHashMap<>();
+        String last = null;
+        int i = from;
+        for (; i < keys.length && keys[i].startsWith(prefix); i++) {
+            if (items.size() == limit) {
+                return new PropertyPage(items, last);
+            }
+            if (glob == null || glob.matches(keys[i])) {
+                items.put(keys[i], values[i]);
+                last = keys[i];
+            }
+        }
+        return new PropertyPage(items, null);
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int upperBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.springbackend.system;
+
+import java.util.Map;
+
+/**
+ * Immutable view of the system properties at one point in time, together with
+ * its pre-encoded bodies (JSON, gzipped JSON and CBOR) and a strong ETag for each,
+ * all derived from one content hash.
+ */
+public final class SystemPropertiesSnapshot {
+
+    private final long version;
+    private final Map<String, String> properties;
+    private final byte[] json;
+    private final byte[] gzippedJson;
+    private final byte[] cbor;
+    private final String etag;
+    private final String gzipEtag;
+    private final String cborEtag;
+    private final SystemPropertiesIndex index;
+
+    SystemPropertiesSnapshot(long version, Map<String, String> properties, byte[] json, byte[] gzippedJson,
+                             byte[] cbor, String contentHash, SystemPropertiesIndex index) {
+        this.version = version;
+        this.properties = properties;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+        this.cbor = cbor;
+        // 🏷️ Each representation needs its own strong ETag
+        this.etag = "\"" + contentHash + "\"";
+        this.gzipEtag = "\"" + contentHash + "-gzip\"";
+        this.cborEtag = "\"" + contentHash + "-cbor\"";
+        this.index = index;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Map<String, String> properties() {
+        return properties;
+    }
+
+    /**
+     * The encoded JSON body. Shared between callers, so it must not be modified.
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * The JSON body, gzip-compressed ahead of time.
+     */
+    public byte[] gzippedJson() {
+        return gzippedJson;
+    }
+
+    /**
+     * The same map encoded as CBOR (RFC 8949).
+     */
+    public byte[] cbor() {
+        return cbor;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return gzipEtag;
+    }
+
+    public String cborEtag() {
+        return cborEtag;
+    }
+
+    /**
+     * Sorted index over the raw system properties, without the convenience aliases.
+     */
+    public SystemPropertiesIndex index() {
+        return index;
+    }
+}
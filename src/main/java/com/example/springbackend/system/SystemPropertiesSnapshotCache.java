@@ -0,0 +1,140 @@
+package com.example.springbackend.system;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the last {@link SystemPropertiesSnapshot} and swaps in a new one only when the
+ * system properties actually change.
+ * <p>
+ * Readers never inspect {@link System#getProperties()}: {@link #current()} is a single
+ * volatile read. Changes are picked up by {@link #refresh()}, which runs on a schedule
+ * ({@code system.properties.refresh-interval-ms}) and can be called directly right after
+ * {@link System#setProperty}. It copies the table and compares it entry by entry with the
+ * current snapshot, so every real change is seen. Each new snapshot is announced with a
+ * {@link SystemPropertiesChangedEvent}.
+ */
+@Component
+public class SystemPropertiesSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final Object rebuildLock = new Object();
+
+    private volatile SystemPropertiesSnapshot snapshot;
+
+    public SystemPropertiesSnapshotCache(ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public SystemPropertiesSnapshot current() {
+        SystemPropertiesSnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${system.properties.refresh-interval-ms:1000}")
+    public void refreshPeriodically() {
+        refresh();
+    }
+
+    /**
+     * Re-reads the system properties and builds a new snapshot if anything differs.
+     */
+    public SystemPropertiesSnapshot refresh() {
+        Properties sysProps = System.getProperties();
+        Map<String, String> sorted = new TreeMap<>();
+        for (String key : sysProps.stringPropertyNames()) {
+            sorted.put(key, sysProps.getProperty(key));
+        }
+
+        SystemPropertiesSnapshot rebuilt;
+        synchronized (rebuildLock) {
+            SystemPropertiesSnapshot current = snapshot;
+            if (current != null && current.index().contentEquals(sorted)) {
+                return current;
+            }
+            long version = current == null ? 1 : current.version() + 1;
+            rebuilt = build(version, sysProps, sorted);
+            snapshot = rebuilt;
+        }
+
+        // 📣 Published outside the lock; listeners must not block (the change feed hands off to its own thread)
+        eventPublisher.publishEvent(new SystemPropertiesChangedEvent(rebuilt));
+        return rebuilt;
+    }
+
+    private SystemPropertiesSnapshot build(long version, Properties sysProps, Map<String, String> sorted) {
+        Map<String, String> propertiesMap = new LinkedHashMap<>();
+
+        // 📂 Current working directory
+        propertiesMap.put("workingDir", sysProps.getProperty("user.dir"));
+
+        // 🏠 User's home directory
+        propertiesMap.put("userHome", sysProps.getProperty("user.home"));
+
+        // 💻 OS and Java environment info
+        propertiesMap.put("osName", sysProps.getProperty("os.name"));
+        propertiesMap.put("osVersion", sysProps.getProperty("os.version"));
+        propertiesMap.put("javaVersion", sysProps.getProperty("java.version"));
+        propertiesMap.put("javaVendor", sysProps.getProperty("java.vendor"));
+
+        // 🔍 All system properties, sorted so equal content always encodes to equal bytes
+        sorted.forEach(propertiesMap::putIfAbsent);
+
+        byte[] json;
+        byte[] cbor;
+        try {
+            json = objectMapper.writeValueAsBytes(propertiesMap);
+            cbor = cborMapper.writeValueAsBytes(propertiesMap);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode system properties", e);
+        }
+
+        return new SystemPropertiesSnapshot(version, Collections.unmodifiableMap(propertiesMap), json, gzip(json),
+                cbor, contentHashOf(json), new SystemPropertiesIndex(sorted));
+    }
+
+    private static String contentHashOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        // 🗜️ Compressed once per snapshot, so the slowest (smallest) level is worth it
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,24 @@
+package sandbox.io.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a reflection-free {@code <Type>Codec} class next to the annotated class at compile time.
+ * <p>
+ * The codec writes every non-static, non-{@code transient} field in declaration order and checks
+ * the class's {@code serialVersionUID} as the schema version when reading. The generated code lives in
+ * the same package and uses no reflection, so fields can stay private and final: each written field needs
+ * a non-private accessor ({@code getName()}, {@code isName()} or {@code name()}), and the class needs a
+ * non-private constructor taking every instance field in declaration order. {@code transient} fields are
+ * passed their default value ({@code null}, {@code 0}, {@code false}).
+ * <p>
+ * Supported field types: primitives, {@code String}, other {@code @BinaryCodec} classes and
+ * {@code java.util.List} of either.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface BinaryCodec {
+}
@@ -0,0 +1,139 @@
+package sandbox.io.codec;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Lets generated codecs read straight from a {@link ByteBuffer}, e.g. a memory-mapped file,
+ * without an InputStream in between. Multi-byte values are big-endian, like {@link java.io.DataInputStream}.
+ */
+public final class ByteBufferDataInput implements DataInput {
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferDataInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        require(len);
+        buffer.get(b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.min(Math.max(n, 0), buffer.remaining());
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(2);
+        return buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        require(2);
+        return buffer.getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        require(8);
+        return buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        require(4);
+        return buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        require(8);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Same contract as {@link java.io.DataInputStream#readLine()}: bytes up to {@code \n}, {@code \r}
+     * or {@code \r\n}, each taken as one char; null at the end of the buffer.
+     */
+    @Override
+    public String readLine() {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            int c = buffer.get() & 0xFF;
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            line.append((char) c);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Bytes left to read; lets {@link CodecSupport} reject lengths the buffer cannot hold.
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    private void require(int bytes) throws EOFException {
+        if (buffer.remaining() < bytes) {
+            throw new EOFException("Needed " + bytes + " bytes, " + buffer.remaining() + " left");
+        }
+    }
+}
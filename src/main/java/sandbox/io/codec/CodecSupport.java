@@ -0,0 +1,122 @@
+package sandbox.io.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Encoding helpers shared by all generated codecs.
+ * <p>
+ * Strings and lists start with a varint of {@code length + 1}, so 0 means {@code null}.
+ * Strings are UTF-8 with no 64 KB limit, unlike {@link DataOutput#writeUTF}.
+ * <p>
+ * Lengths come from the input, so they are never trusted for allocation: against a
+ * {@link ByteBufferDataInput} a length larger than what is left is rejected up front, and
+ * for any other input buffers grow only as the bytes actually arrive.
+ */
+public final class CodecSupport {
+
+    private static final int UNCHECKED_ALLOCATION = 64 * 1024;
+
+    private CodecSupport() {
+    }
+
+    public static void checkVersion(long found, long expected, Class<?> type) throws InvalidClassException {
+        if (found != expected) {
+            throw new InvalidClassException(type.getName(),
+                    "schema version " + found + " does not match serialVersionUID " + expected);
+        }
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        int length = readLength(in);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[Math.min(length, UNCHECKED_ALLOCATION)];
+        int read = 0;
+        while (true) {
+            int chunk = Math.min(bytes.length, length) - read;
+            in.readFully(bytes, read, chunk);
+            read += chunk;
+            if (read == length) {
+                return new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+        }
+    }
+
+    /**
+     * Writes the length prefix of a list, or the null marker.
+     */
+    public static void writeSize(DataOutput out, Collection<?> values) throws IOException {
+        writeVarInt(out, values == null ? 0 : values.size() + 1);
+    }
+
+    /**
+     * Every list element takes at least one byte (a presence flag or a string length), so a
+     * size larger than the bytes left is rejected.
+     *
+     * @return the list size, or -1 for {@code null}
+     */
+    public static int readSize(DataInput in) throws IOException {
+        return readLength(in);
+    }
+
+    /**
+     * How many list slots to allocate before reading {@code size} elements from {@code in}.
+     */
+    public static int initialCapacity(DataInput in, int size) {
+        return in instanceof ByteBufferDataInput ? size : Math.min(size, UNCHECKED_ALLOCATION / 8);
+    }
+
+    private static int readLength(DataInput in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < -1) {
+            throw new StreamCorruptedException("Invalid length " + length);
+        }
+        if (in instanceof ByteBufferDataInput buffer && length > buffer.remaining()) {
+            throw new EOFException("Length " + length + " exceeds the " + buffer.remaining() + " bytes left");
+        }
+        return length;
+    }
+
+    /**
+     * 🔢 Unsigned LEB128: 7 bits per byte, high bit set while more bytes follow.
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
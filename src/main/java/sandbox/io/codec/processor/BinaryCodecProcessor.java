@@ -0,0 +1,403 @@
+package sandbox.io.codec.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/*
+ * ✅ Explanation:
+    Runs inside javac. For every class annotated with @BinaryCodec it writes the source of a
+    <Class>Codec with plain field reads and writes - the work ObjectOutputStream does with
+    reflection, class descriptors and handle tables at runtime is done once, at compile time.
+    The generated code only goes through the class's own API: accessors to write, the
+    all-fields constructor to read. Problems (no accessor, unsupported types, no
+    serialVersionUID...) are reported as compile errors on the offending element.
+* */
+@SupportedAnnotationTypes(BinaryCodecProcessor.ANNOTATION)
+public class BinaryCodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "sandbox.io.codec.BinaryCodec";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                    error(element, "@BinaryCodec only applies to top-level classes");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        Long version = serialVersionUid(type);
+        if (version == null) {
+            error(type, "@BinaryCodec classes need a constant serialVersionUID; it is the schema version");
+            return;
+        }
+
+        List<VariableElement> instanceFields = new ArrayList<>();
+        List<Property> properties = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            instanceFields.add(field);
+            if (modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String accessor = accessorOf(type, field);
+            if (!isSupported(field.asType())) {
+                error(field, "Unsupported type for @BinaryCodec: " + field.asType());
+                valid = false;
+            } else if (accessor == null) {
+                error(field, "@BinaryCodec needs a non-private accessor get" + capitalized(field)
+                        + "(), is" + capitalized(field) + "() or " + field.getSimpleName() + "() for this field");
+                valid = false;
+            } else {
+                properties.add(new Property(field, accessor));
+            }
+        }
+        if (!valid) {
+            return;
+        }
+        if (!hasFieldConstructor(type, instanceFields)) {
+            error(type, "@BinaryCodec classes need a non-private constructor taking every instance field in "
+                    + "declaration order; transient ones are passed their default value");
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getSimpleName().toString();
+        String codecName = typeName + "Codec";
+        try (Writer out = processingEnv.getFiler()
+                .createSourceFile(qualified(packageName, codecName), type)
+                .openWriter()) {
+            out.write(source(packageName, typeName, codecName, version, properties, instanceFields));
+        } catch (IOException e) {
+            error(type, "Could not write " + codecName + ": " + e.getMessage());
+        }
+    }
+
+    private String source(String packageName, String typeName, String codecName, long version,
+                          List<Property> properties, List<VariableElement> instanceFields) {
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("""
+                import sandbox.io.codec.ByteBufferDataInput;
+                import sandbox.io.codec.CodecSupport;
+
+                import javax.annotation.processing.Generated;
+                import java.io.ByteArrayOutputStream;
+                import java.io.DataInput;
+                import java.io.DataOutput;
+                import java.io.DataOutputStream;
+                import java.io.IOException;
+                import java.nio.ByteBuffer;
+
+                /**
+                 * Binary codec for {@link %1$s}, generated from its fields. Do not edit.
+                 */
+                @Generated("%3$s")
+                public final class %2$s {
+
+                    /**
+                     * {@code serialVersionUID} of {@link %1$s}, written before every top-level record.
+                     */
+                    public static final long SCHEMA_VERSION = %4$dL;
+
+                    private %2$s() {
+                    }
+
+                    public static byte[] encode(%1$s value) throws IOException {
+                        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                        encode(value, new DataOutputStream(bytes));
+                        return bytes.toByteArray();
+                    }
+
+                    public static void encode(%1$s value, DataOutput out) throws IOException {
+                        out.writeLong(SCHEMA_VERSION);
+                        writeFields(value, out);
+                    }
+
+                    public static %1$s decode(byte[] bytes) throws IOException {
+                        return decode(ByteBuffer.wrap(bytes));
+                    }
+
+                    public static %1$s decode(ByteBuffer buffer) throws IOException {
+                        return decode(new ByteBufferDataInput(buffer));
+                    }
+
+                    public static %1$s decode(DataInput in) throws IOException {
+                        CodecSupport.checkVersion(in.readLong(), SCHEMA_VERSION, %1$s.class);
+                        return readFields(in);
+                    }
+
+                    /**
+                     * Writes the fields only, without the schema version; used for nested values.
+                     */
+                    public static void writeFields(%1$s value, DataOutput out) throws IOException {
+                """.formatted(typeName, codecName, getClass().getName(), version));
+        for (Property property : properties) {
+            writeField(src, property);
+        }
+        src.append("""
+                    }
+
+                    public static %1$s readFields(DataInput in) throws IOException {
+                """.formatted(typeName));
+        for (Property property : properties) {
+            readField(src, property.field());
+        }
+        StringJoiner arguments = new StringJoiner(", ", "        return new " + typeName + "(", ");\n");
+        for (VariableElement field : instanceFields) {
+            arguments.add(field.getModifiers().contains(Modifier.TRANSIENT)
+                    ? defaultValue(field.asType())
+                    : local(field));
+        }
+        src.append(arguments);
+        src.append("""
+                    }
+                }
+                """);
+        return src.toString();
+    }
+
+    private void writeField(StringBuilder src, Property property) {
+        VariableElement field = property.field();
+        TypeMirror type = field.asType();
+        String name = local(field);
+        src.append("        ").append(type).append(' ').append(name).append(" = value.")
+                .append(property.accessor()).append("();\n");
+        if (isList(type)) {
+            TypeMirror element = elementType(type);
+            src.append("        CodecSupport.writeSize(out, ").append(name).append(");\n");
+            src.append("        if (").append(name).append(" != null) {\n");
+            src.append("            for (").append(element).append(" $element : ").append(name).append(") {\n");
+            writeValue(src, "                ", element, "$element");
+            src.append("            }\n");
+            src.append("        }\n");
+        } else {
+            writeValue(src, "        ", type, name);
+        }
+    }
+
+    private void readField(StringBuilder src, VariableElement field) {
+        String name = local(field);
+        TypeMirror type = field.asType();
+        if (isList(type)) {
+            TypeMirror element = elementType(type);
+            String size = name + "$size";
+            src.append("        int ").append(size).append(" = CodecSupport.readSize(in);\n");
+            src.append("        ").append(type).append(' ').append(name).append(" = null;\n");
+            src.append("        if (").append(size).append(" >= 0) {\n");
+            src.append("            ").append(name).append(" = new java.util.ArrayList<>(CodecSupport.initialCapacity(in, ")
+                    .append(size).append("));\n");
+            src.append("            for (int $i = 0; $i < ").append(size).append("; $i++) {\n");
+            src.append("                ").append(name).append(".add(").append(readValue(element)).append(");\n");
+            src.append("            }\n");
+            src.append("        }\n");
+        } else {
+            src.append("        ").append(type).append(' ').append(name).append(" = ")
+                    .append(readValue(type)).append(";\n");
+        }
+    }
+
+    private void writeValue(StringBuilder src, String indent, TypeMirror type, String name) {
+        if (type.getKind().isPrimitive()) {
+            src.append(indent).append("out.write").append(primitiveMethod(type.getKind()))
+                    .append('(').append(name).append(");\n");
+        } else if (isString(type)) {
+            src.append(indent).append("CodecSupport.writeString(out, ").append(name).append(");\n");
+        } else {
+            src.append(indent).append("out.writeBoolean(").append(name).append(" != null);\n");
+            src.append(indent).append("if (").append(name).append(" != null) {\n");
+            src.append(indent).append("    ").append(codecOf(type)).append(".writeFields(").append(name)
+                    .append(", out);\n");
+            src.append(indent).append("}\n");
+        }
+    }
+
+    private String readValue(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return "in.read" + primitiveMethod(type.getKind()) + "()";
+        }
+        if (isString(type)) {
+            return "CodecSupport.readString(in)";
+        }
+        return "in.readBoolean() ? " + codecOf(type) + ".readFields(in) : null";
+    }
+
+    /**
+     * Generated locals are prefixed so they can never clash with {@code in}, {@code out} or {@code value}.
+     */
+    private static String local(VariableElement field) {
+        return "f$" + field.getSimpleName();
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE -> "(byte) 0";
+            case SHORT -> "(short) 0";
+            case INT -> "0";
+            case LONG -> "0L";
+            case FLOAT -> "0f";
+            case DOUBLE -> "0d";
+            default -> "null";
+        };
+    }
+
+    /**
+     * {@code getName()}, {@code isName()} (booleans only) or a record-style {@code name()},
+     * non-private, returning exactly the field's type.
+     */
+    private String accessorOf(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        List<String> candidates = new ArrayList<>(List.of("get" + capitalized(field), name));
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            candidates.add(1, "is" + capitalized(field));
+        }
+        for (String candidate : candidates) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(candidate)
+                        && method.getParameters().isEmpty()
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean hasFieldConstructor(TypeElement type, List<VariableElement> instanceFields) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            if (constructor.getModifiers().contains(Modifier.PRIVATE) || parameters.size() != instanceFields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < parameters.size() && matches; i++) {
+                matches = processingEnv.getTypeUtils().isSameType(parameters.get(i).asType(), instanceFields.get(i).asType());
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String capitalized(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String primitiveMethod(TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "Boolean";
+            case BYTE -> "Byte";
+            case SHORT -> "Short";
+            case CHAR -> "Char";
+            case INT -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+            default -> throw new IllegalArgumentException(kind.toString());
+        };
+    }
+
+    private boolean isSupported(TypeMirror type) {
+        if (isList(type)) {
+            TypeMirror element = elementType(type);
+            return element != null && (isString(element) || isCodecType(element));
+        }
+        return type.getKind().isPrimitive() || isString(type) || isCodecType(type);
+    }
+
+    private boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && type.toString().equals("java.lang.String");
+    }
+
+    private boolean isList(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.util.List");
+    }
+
+    private TypeMirror elementType(TypeMirror listType) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) listType).getTypeArguments();
+        return arguments.size() == 1 && arguments.get(0).getKind() == TypeKind.DECLARED ? arguments.get(0) : null;
+    }
+
+    private boolean isCodecType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName().contentEquals(ANNOTATION));
+    }
+
+    private String codecOf(TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(element);
+        return qualified(pkg.getQualifiedName().toString(), element.getSimpleName() + "Codec");
+    }
+
+    private static Long serialVersionUid(TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals("serialVersionUID")
+                    && field.getModifiers().contains(Modifier.STATIC)
+                    && field.getConstantValue() instanceof Long value) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String qualified(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private record Property(VariableElement field, String accessor) {
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
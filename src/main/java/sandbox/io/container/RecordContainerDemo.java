@@ -0,0 +1,72 @@
+package sandbox.io.container;
+
+import sandbox.io.input.objectinputstream.Person;
+import sandbox.io.input.objectinputstream.PersonCodec;
+import sandbox.io.output.objectoutputstream.Company;
+import sandbox.io.output.objectoutputstream.CompanyCodec;
+import sandbox.io.output.objectoutputstream.Employee;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/*
+ * ✅ Explanation:
+    Writes a million Person records into one container file instead of a million person.ser files,
+    appends a few Company records (and a new version of one person) in a second session,
+    then reads random records from many threads through a single reader.
+* */
+public class RecordContainerDemo {
+
+    private static final int PEOPLE = 1_000_000;
+    private static final long COMPANY_IDS = 10_000_000L;
+
+    public static void main(String[] args) {
+        Path file = Path.of("records.bin");
+        try {
+            Files.deleteIfExists(file);
+
+            long start = System.nanoTime();
+            try (RecordFileWriter writer = new RecordFileWriter(file)) {
+                for (int i = 0; i < PEOPLE; i++) {
+                    writer.append(i, PersonCodec.encode(new Person("Person " + i, 20 + i % 50, "secret")));
+                }
+            }
+            System.out.printf("📝 Wrote %,d people in %.0f ms, %,d bytes%n",
+                    PEOPLE, (System.nanoTime() - start) / 1e6, Files.size(file));
+
+            // Second session: the writer picks up where the file ended
+            try (RecordFileWriter writer = new RecordFileWriter(file)) {
+                writer.append(COMPANY_IDS, CompanyCodec.encode(new Company("OpenAI Corp",
+                        List.of(new Employee("Alice", 1001, "secret123"), new Employee("Bob", 1002, "hidden456")))));
+                writer.append(42, PersonCodec.encode(new Person("Person 42 (renamed)", 62, "secret")));
+            }
+
+            try (RecordFileReader reader = new RecordFileReader(file)) {
+                System.out.println("📦 Records: " + reader.size());
+                System.out.println("🏢 " + CompanyCodec.decode(reader.read(COMPANY_IDS)));
+                System.out.println("👤 " + PersonCodec.decode(reader.read(42)));
+                System.out.println("❓ id -1 present: " + reader.contains(-1));
+
+                int lookups = 1_000_000;
+                LongAdder bytes = new LongAdder();
+                start = System.nanoTime();
+                IntStream.range(0, lookups).parallel().forEach(i -> {
+                    try {
+                        bytes.add(reader.read(ThreadLocalRandom.current().nextInt(PEOPLE)).length);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                System.out.printf("🎯 %,d random reads on %d threads in %.0f ms (%,d bytes)%n", lookups,
+                        Runtime.getRuntime().availableProcessors(), (System.nanoTime() - start) / 1e6, bytes.sum());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
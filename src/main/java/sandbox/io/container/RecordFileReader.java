@@ -0,0 +1,146 @@
+package sandbox.io.container;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static sandbox.io.container.RecordFileWriter.FOOTER_MAGIC;
+import static sandbox.io.container.RecordFileWriter.FOOTER_SIZE;
+import static sandbox.io.container.RecordFileWriter.HEADER_SIZE;
+import static sandbox.io.container.RecordFileWriter.INDEX_ENTRY_SIZE;
+import static sandbox.io.container.RecordFileWriter.MAGIC;
+import static sandbox.io.container.RecordFileWriter.VERSION;
+
+/*
+ * ✅ Explanation:
+    Random access into a file written by RecordFileWriter.
+    Only the footer is read on open; the sorted index is memory-mapped and binary-searched in
+    place, so opening a file with millions of records costs the same as opening one with ten.
+    Payloads are fetched with positional FileChannel.read(buffer, position) calls, which don't
+    touch the channel's shared position - any number of threads can read through one reader.
+* */
+public final class RecordFileReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer index;
+    private final int count;
+
+    public RecordFileReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE) {
+                throw new IOException("Not a record file: " + file);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(header, 0);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a record file: " + file);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported record file version " + header.getInt(4));
+            }
+
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE);
+            readFully(footer, size - FOOTER_SIZE);
+            if (footer.getInt(20) != FOOTER_MAGIC) {
+                throw new IOException("Record file has no index (writer not closed?): " + file);
+            }
+            long indexOffset = footer.getLong(0);
+            long records = footer.getLong(8);
+            if (records > Integer.MAX_VALUE / INDEX_ENTRY_SIZE
+                    || indexOffset + records * INDEX_ENTRY_SIZE != size - FOOTER_SIZE) {
+                throw new IOException("Record file index is damaged: " + file);
+            }
+            this.count = (int) records;
+            this.index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, records * INDEX_ENTRY_SIZE);
+
+            CRC32 crc = new CRC32();
+            crc.update(index.duplicate());
+            if ((int) crc.getValue() != footer.getInt(16)) {
+                throw new IOException("Record file index is damaged: " + file);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Ids in ascending order: idAt(0) is the smallest. */
+    public long idAt(int i) {
+        return index.getLong(entry(i));
+    }
+
+    public boolean contains(long id) {
+        return find(id) >= 0;
+    }
+
+    /**
+     * @return the latest payload stored for {@code id}, or null if there is none
+     */
+    public byte[] read(long id) throws IOException {
+        int i = find(id);
+        return i < 0 ? null : readAt(i);
+    }
+
+    public byte[] readAt(int i) throws IOException {
+        int at = entry(i);
+        long offset = index.getLong(at + 8);
+        int length = index.getInt(at + 16);
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, offset);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, length);
+        if ((int) crc.getValue() != index.getInt(at + 20)) {
+            throw new IOException("Record " + index.getLong(at) + " is corrupt");
+        }
+        return payload.array();
+    }
+
+    private int find(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = index.getLong(mid * INDEX_ENTRY_SIZE);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int entry(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("No record " + i + " in a file of " + count);
+        }
+        return i * INDEX_ENTRY_SIZE;
+    }
+
+    private void readFully(ByteBuffer target, long at) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, at + target.position()) < 0) {
+                throw new IOException("Unexpected end of record file");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,267 @@
+package sandbox.io.container;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/*
+ * ✅ Explanation:
+    Stores many serialized records in one file instead of one tiny file per object.
+    Records are only ever appended; the index is written behind them on close():
+
+    header (8 bytes, big-endian)
+        int   magic "RECF"
+        int   version
+    records, in append order
+        long  id
+        int   payload length
+        int   CRC-32 of the payload
+        byte[] payload
+    index, sorted by id (24 bytes per record)
+        long  id
+        long  payload offset
+        int   payload length
+        int   CRC-32 of the payload
+    footer (24 bytes)
+        long  index offset
+        long  record count
+        int   CRC-32 of the index
+        int   magic "RECX"
+
+    Reopening a file continues after the last record: the old index and footer are cut off and
+    rewritten on the next close(). Appending an id again replaces the older record in the index
+    (its bytes stay in the file). The footer is only trusted after the same checks
+    RecordFileReader makes (index offset in range, index size matching the record count, index
+    CRC). If the writer died before close() there is no valid footer - then the record headers
+    are scanned instead, each payload is checked against its CRC and a half-written last
+    record is dropped.
+
+    A file has one writer at a time, enforced with an exclusive FileLock held until close();
+    any number of RecordFileReaders can read a closed file.
+* */
+public final class RecordFileWriter implements Closeable {
+
+    static final int MAGIC = 0x52454346; // "RECF"
+    static final int FOOTER_MAGIC = 0x52454358; // "RECX"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 24;
+    static final int FOOTER_SIZE = 24;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final List<IndexEntry> entries = new ArrayList<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long position;
+    private boolean closed;
+
+    public RecordFileWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            lock(file);
+            if (channel.size() == 0) {
+                buffer.putInt(MAGIC).putInt(VERSION);
+                position = HEADER_SIZE;
+            } else {
+                position = reopen(file);
+                channel.truncate(position);
+                channel.position(position);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Released by channel.close(); tryLock() throws instead of returning null when this JVM holds it
+    private void lock(Path file) throws IOException {
+        try {
+            if (channel.tryLock() != null) {
+                return;
+            }
+        } catch (OverlappingFileLockException alreadyLockedHere) {
+            // fall through
+        }
+        throw new IOException("Record file is already open for writing: " + file);
+    }
+
+    public void append(long id, byte[] payload) throws IOException {
+        append(id, payload, 0, payload.length);
+    }
+
+    public void append(long id, byte[] payload, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        crc.reset();
+        crc.update(payload, offset, length);
+        int checksum = (int) crc.getValue();
+
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            flush();
+        }
+        buffer.putLong(id).putInt(length).putInt(checksum);
+        entries.add(new IndexEntry(id, position + RECORD_HEADER_SIZE, length, checksum));
+        position += RECORD_HEADER_SIZE + length;
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(payload, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /** Records appended so far, including the ones that were in the file when it was opened. */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            List<IndexEntry> index = latestPerId();
+            long indexOffset = position;
+            crc.reset();
+            for (IndexEntry entry : index) {
+                if (buffer.remaining() < INDEX_ENTRY_SIZE) {
+                    flush();
+                }
+                int start = buffer.position();
+                buffer.putLong(entry.id()).putLong(entry.offset()).putInt(entry.length()).putInt(entry.crc());
+                crc.update(buffer.array(), start, INDEX_ENTRY_SIZE);
+            }
+            if (buffer.remaining() < FOOTER_SIZE) {
+                flush();
+            }
+            buffer.putLong(indexOffset).putLong(index.size()).putInt((int) crc.getValue()).putInt(FOOTER_MAGIC);
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private List<IndexEntry> latestPerId() {
+        List<IndexEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong(IndexEntry::id).thenComparingLong(IndexEntry::offset));
+        List<IndexEntry> latest = new ArrayList<>(sorted.size());
+        for (IndexEntry entry : sorted) {
+            if (!latest.isEmpty() && latest.get(latest.size() - 1).id() == entry.id()) {
+                latest.set(latest.size() - 1, entry);
+            } else {
+                latest.add(entry);
+            }
+        }
+        return latest;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Loads the records of an existing file and returns where the next record goes. */
+    private long reopen(Path file) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = readFully(0, HEADER_SIZE, size);
+        if (header == null || header.getInt() != MAGIC) {
+            throw new IOException("Not a record file: " + file);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported record file version " + version);
+        }
+        // The index only keeps the latest record per id, so rebuild the full list from the
+        // record headers either way; the footer just tells us where the records end.
+        long end = size;
+        boolean recovering = true;
+        ByteBuffer footer = size >= HEADER_SIZE + FOOTER_SIZE ? readFully(size - FOOTER_SIZE, FOOTER_SIZE, size) : null;
+        if (footer != null && footer.getInt(FOOTER_SIZE - 4) == FOOTER_MAGIC) {
+            long indexOffset = footer.getLong(0);
+            long records = footer.getLong(8);
+            long indexEnd = size - FOOTER_SIZE;
+            if (indexOffset >= HEADER_SIZE && indexOffset <= indexEnd
+                    && records >= 0 && records <= (indexEnd - indexOffset) / INDEX_ENTRY_SIZE
+                    && indexOffset + records * INDEX_ENTRY_SIZE == indexEnd
+                    && crcOf(indexOffset, indexEnd - indexOffset) == footer.getInt(16)) {
+                end = indexOffset;
+                recovering = false;
+            }
+            // otherwise the footer is damaged or stale: scan and verify the records like after a crash
+        }
+        long next = HEADER_SIZE;
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (next + RECORD_HEADER_SIZE <= end) {
+            recordHeader.clear();
+            readFully(recordHeader, next);
+            long id = recordHeader.getLong(0);
+            int length = recordHeader.getInt(8);
+            if (length < 0 || next + RECORD_HEADER_SIZE + length > end) {
+                break; // half-written record
+            }
+            if (recovering && !checksumMatches(next + RECORD_HEADER_SIZE, length, recordHeader.getInt(12))) {
+                break; // garbage from an interrupted write
+            }
+            entries.add(new IndexEntry(id, next + RECORD_HEADER_SIZE, length, recordHeader.getInt(12)));
+            next += RECORD_HEADER_SIZE + length;
+        }
+        return next;
+    }
+
+    private boolean checksumMatches(long at, int length, int expected) throws IOException {
+        return crcOf(at, length) == expected;
+    }
+
+    private int crcOf(long at, long length) throws IOException {
+        crc.reset();
+        ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(length, BUFFER_SIZE));
+        for (long done = 0; done < length; done += chunk.limit()) {
+            chunk.clear().limit((int) Math.min(length - done, chunk.capacity()));
+            readFully(chunk, at + done);
+            crc.update(chunk.flip());
+        }
+        return (int) crc.getValue();
+    }
+
+    private ByteBuffer readFully(long at, int length, long size) throws IOException {
+        if (at + length > size) {
+            return null;
+        }
+        ByteBuffer target = ByteBuffer.allocate(length);
+        readFully(target, at);
+        return target.flip();
+    }
+
+    private void readFully(ByteBuffer target, long at) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, at + target.position()) < 0) {
+                throw new IOException("Unexpected end of record file");
+            }
+        }
+    }
+
+    record IndexEntry(long id, long offset, int length, int crc) {
+    }
+}
@@ -2,18 +2,77 @@ package sandbox.io.input.objectinputstream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamClass;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/*
+ * ✅ Explanation:
+    resolveClass() is called for every class descriptor in every stream, and the default
+    implementation walks the class loader each time. Here resolved classes are cached by name in a
+    map shared by all streams, so reading many small files pays the lookup only once per class.
+    (The cache assumes the classes come from one class loader, which is true for this app.)
+
+    Every stream also gets the DeserializationPolicy as its ObjectInputFilter:
+      - classes outside the allowlist are refused in resolveClass(), before they are even loaded
+      - depth / array length / reference / byte limits are enforced by the filter
+* */
 public class CustomObjectInputStream extends ObjectInputStream {
 
+    private static final ConcurrentMap<String, Class<?>> CLASS_CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+    private static final LongAdder REJECTED = new LongAdder();
+
+    private final DeserializationPolicy policy;
+
     public CustomObjectInputStream(InputStream in) throws IOException {
+        this(in, DeserializationPolicy.DEFAULT);
+    }
+
+    public CustomObjectInputStream(InputStream in, DeserializationPolicy policy) throws IOException {
         super(in);
+        this.policy = policy;
+        ObjectInputFilter filter = policy.toFilter();
+        setObjectInputFilter(info -> {
+            ObjectInputFilter.Status status = filter.checkInput(info);
+            if (status == ObjectInputFilter.Status.REJECTED) {
+                REJECTED.increment();
+            }
+            return status;
+        });
     }
 
     @Override
     protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
-        System.out.println("🔎 Resolving class: " + desc.getName());
-        return super.resolveClass(desc); // Default behavior for now
+        String name = desc.getName();
+        if (!policy.allows(name)) {
+            REJECTED.increment();
+            throw new InvalidClassException(name, "Class is not allowed by the deserialization policy");
+        }
+        Class<?> type = CLASS_CACHE.get(name);
+        if (type != null) {
+            CACHE_HITS.increment();
+            return type;
+        }
+        CACHE_MISSES.increment();
+        type = super.resolveClass(desc);
+        CLASS_CACHE.putIfAbsent(name, type);
+        return type;
+    }
+
+    public static ResolutionStats stats() {
+        return new ResolutionStats(CACHE_HITS.sum(), CACHE_MISSES.sum(), REJECTED.sum(), CLASS_CACHE.size());
+    }
+
+    public static void clearCache() {
+        CLASS_CACHE.clear();
+    }
+
+    public record ResolutionStats(long cacheHits, long cacheMisses, long rejected, int cachedClasses) {
     }
 }
@@ -0,0 +1,123 @@
+package sandbox.io.input.objectinputstream;
+
+import java.io.ObjectInputFilter;
+import java.util.List;
+
+/*
+ * ✅ Explanation:
+    What a CustomObjectInputStream is willing to read.
+    allowed holds class patterns:
+      "a.b.C"   exactly that class
+      "a.b.*"   classes in package a.b
+      "a.b.**"  classes in a.b and all its sub-packages
+    Arrays are judged by their element type; primitive arrays are always fine. A name that is
+    not a well-formed binary class name ("[", "[L", "[Lfoo" ...) is refused.
+    The limits cap graph depth, single array length, total references and stream bytes
+    (0 = no limit), so a hostile stream can't build an arbitrarily big graph before we notice.
+* */
+public record DeserializationPolicy(List<String> allowed,
+                                    long maxDepth,
+                                    long maxArrayLength,
+                                    long maxReferences,
+                                    long maxBytes) {
+
+    public static final long DEFAULT_MAX_DEPTH = 20;
+    public static final long DEFAULT_MAX_ARRAY_LENGTH = 1 << 20;
+    public static final long DEFAULT_MAX_REFERENCES = 100_000;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    /**
+     * Our own sandbox types plus the few JDK classes they are built from: strings, boxed numbers and
+     * the lists behind new ArrayList, Arrays.asList and List.of (which travels as CollSer), plus Object
+     * because ArrayList and CollSer report their backing Object[] to the filter. Whole
+     * packages like java.util.* are deliberately not allowed - PriorityQueue, TreeMap, HashMap and
+     * friends call comparators, hashCode and equals while being read, which is where gadget chains start.
+     */
+    public static final DeserializationPolicy DEFAULT = allowing(
+            "sandbox.io.**",
+            "java.lang.Object", "java.lang.String", "java.lang.Number", "java.lang.Integer", "java.lang.Long",
+            "java.lang.Boolean", "java.lang.Double", "java.lang.Enum",
+            "java.util.ArrayList", "java.util.Arrays$ArrayList", "java.util.CollSer",
+            "java.util.ImmutableCollections$List12", "java.util.ImmutableCollections$ListN");
+
+    public DeserializationPolicy {
+        allowed = List.copyOf(allowed);
+        if (maxDepth < 0 || maxArrayLength < 0 || maxReferences < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("Limits must be >= 0");
+        }
+    }
+
+    public static DeserializationPolicy allowing(String... patterns) {
+        return new DeserializationPolicy(List.of(patterns),
+                DEFAULT_MAX_DEPTH, DEFAULT_MAX_ARRAY_LENGTH, DEFAULT_MAX_REFERENCES, DEFAULT_MAX_BYTES);
+    }
+
+    public DeserializationPolicy withLimits(long maxDepth, long maxArrayLength, long maxReferences, long maxBytes) {
+        return new DeserializationPolicy(allowed, maxDepth, maxArrayLength, maxReferences, maxBytes);
+    }
+
+    /** Checks a binary class name as found in a stream, e.g. "[Ljava.lang.String;". */
+    public boolean allows(String className) {
+        int dims = 0;
+        while (dims < className.length() && className.charAt(dims) == '[') {
+            dims++;
+        }
+        if (dims > 0) {
+            if (className.length() == dims) {
+                return false;
+            }
+            if (className.length() == dims + 1) {
+                return "ZBCSIJFD".indexOf(className.charAt(dims)) >= 0; // primitive array
+            }
+            if (className.charAt(dims) != 'L' || !className.endsWith(";") || className.length() < dims + 3) {
+                return false;
+            }
+            className = className.substring(dims + 1, className.length() - 1);
+        }
+        if (className.isEmpty() || className.indexOf(';') >= 0 || className.indexOf('[') >= 0) {
+            return false;
+        }
+        for (String pattern : allowed) {
+            if (matches(pattern, className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String pattern, String className) {
+        if (pattern.endsWith(".**")) {
+            return className.startsWith(pattern.substring(0, pattern.length() - 2));
+        }
+        if (pattern.endsWith(".*")) {
+            String pkg = pattern.substring(0, pattern.length() - 1);
+            return className.startsWith(pkg) && className.indexOf('.', pkg.length()) < 0;
+        }
+        return className.equals(pattern);
+    }
+
+    public ObjectInputFilter toFilter() {
+        return info -> {
+            if (exceeds(info.depth(), maxDepth)
+                    || exceeds(info.arrayLength(), maxArrayLength)
+                    || exceeds(info.references(), maxReferences)
+                    || exceeds(info.streamBytes(), maxBytes)) {
+                return ObjectInputFilter.Status.REJECTED;
+            }
+            Class<?> type = info.serialClass();
+            if (type == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            return type.isPrimitive() || allows(type.getName())
+                    ? ObjectInputFilter.Status.ALLOWED
+                    : ObjectInputFilter.Status.REJECTED;
+        };
+    }
+
+    private static boolean exceeds(long value, long limit) {
+        return limit > 0 && value > limit;
+    }
+}
@@ -10,11 +10,17 @@ import java.io.ObjectInputStream;
     available() — shows bytes that can be read (only an estimate, not exact!).
     close() — releases resources.
     readUnshared() — not used here fully because it’s meaningful when multiple objects are serialized.
+    CustomObjectInputStream — caches class lookups and rejects classes outside the DeserializationPolicy.
 * */
 public class Deserializer {
 
     public static Object loadObject(String filename) {
-        try (CustomObjectInputStream ois = new CustomObjectInputStream(new FileInputStream(filename))) {
+        return loadObject(filename, DeserializationPolicy.DEFAULT);
+    }
+
+    // Only classes matching the policy (and a graph within its limits) can be loaded
+    public static Object loadObject(String filename, DeserializationPolicy policy) {
+        try (CustomObjectInputStream ois = new CustomObjectInputStream(new FileInputStream(filename), policy)) {
             System.out.println("🔄 Available bytes: " + ois.available());
 
             Object obj = ois.readObject(); // Deserialize object — internally uses resolveClass()
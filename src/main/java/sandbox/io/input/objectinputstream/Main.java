@@ -5,6 +5,7 @@ package sandbox.io.input.objectinputstream;
     Saves (serialize) a Person.
     Loads (deserialize) a Person.
     Shows how the transient field is not restored.
+    Shows the class cache and the allowlist of CustomObjectInputStream at work.
 * */
 public class Main {
     public static void main(String[] args) {
@@ -21,5 +22,13 @@ public class Main {
 
         // Show the deserialized person
         System.out.println("👤 Deserialized Person: " + loadedPerson);
+
+        // Loading again hits the class cache instead of the class loader
+        Deserializer.loadObject(filename);
+
+        // A policy that doesn't allow Person refuses the stream
+        Deserializer.loadObject(filename, DeserializationPolicy.allowing("java.lang.*"));
+
+        System.out.println("📊 " + CustomObjectInputStream.stats());
     }
 }
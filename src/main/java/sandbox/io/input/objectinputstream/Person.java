@@ -1,5 +1,7 @@
 package sandbox.io.input.objectinputstream;
 
+import sandbox.io.codec.BinaryCodec;
+
 import java.io.Serializable;
 
 /*
@@ -8,6 +10,7 @@ import java.io.Serializable;
     serialVersionUID protects against changes breaking deserialization.
     transient fields (like password) are not saved.
 * */
+@BinaryCodec
 public class Person implements Serializable {
     private static final long serialVersionUID = 1L; // Helps control class versioning
 
@@ -21,6 +24,14 @@ public class Person implements Serializable {
         this.password = password;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
     @Override
     public String toString() {
         return "Person{name='" + name + "', age=" + age + ", password='" + password + "'}";
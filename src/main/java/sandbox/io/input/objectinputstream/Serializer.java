@@ -1,7 +1,5 @@
 package sandbox.io.input.objectinputstream;
 
-import org.apache.catalina.util.CustomObjectInputStream;
-
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
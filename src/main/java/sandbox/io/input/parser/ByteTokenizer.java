@@ -0,0 +1,375 @@
+package sandbox.io.input.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+ * ✅ Explanation:
+    One scanning loop shared by all the token parsers.
+    Bytes are classified with a 256-entry lookup table instead of Character.isXxx() calls,
+    and runs of word bytes or whitespace are measured by a RunScanner - SIMD when the
+    Vector API is available, the same table otherwise.
+    Runs of letters/digits become WORD, NUMBER or MIXED tokens; every other non-whitespace
+    byte is a SYMBOL, extended to the longest operator of an OperatorTrie ("==", ">>>=", ...).
+    Tokens are reported as (type, offset, length) to a TokenVisitor - no Strings, no copies.
+    In UTF_8 mode ASCII bytes take the same table path; only a byte >= 0x80 is decoded into a
+    code point and classified with the Unicode rules of Character.isLetter/isDigit/isWhitespace.
+* */
+public final class ByteTokenizer {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    static final byte LETTER = 1;
+    static final byte DIGIT = 2;
+    static final byte SPACE = 4;
+    static final byte WORD_CHAR = LETTER | DIGIT;
+
+    /**
+     * Each byte is read as the ISO-8859-1 char with the same value, which is exactly what
+     * the old {@code (char) data} casts did.
+     */
+    static final byte[] CLASSES = new byte[256];
+
+    /**
+     * The ASCII half of {@link #CLASSES}; bytes from 0x80 up belong to multi-byte UTF-8
+     * sequences and are classified per code point instead.
+     */
+    static final byte[] ASCII_CLASSES;
+
+    private static final int NEED_MORE = -1;
+    private static final int REPLACEMENT = 0xFFFD << 3 | 1; // malformed byte: a one-byte U+FFFD
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            char ch = (char) b;
+            if (Character.isLetter(ch)) {
+                CLASSES[b] = LETTER;
+            } else if (Character.isDigit(ch)) {
+                CLASSES[b] = DIGIT;
+            } else if (Character.isWhitespace(ch)) {
+                CLASSES[b] = SPACE;
+            }
+        }
+        ASCII_CLASSES = Arrays.copyOf(CLASSES, 256);
+        Arrays.fill(ASCII_CLASSES, 0x80, 256, (byte) 0);
+    }
+
+    /**
+     * How token bytes map to characters.
+     */
+    public enum Encoding {
+        /** Every byte is one character, like the old {@code (char) data} casts. */
+        LATIN_1,
+        /** Multi-byte sequences are decoded, so non-ASCII letters and digits stay in their words. */
+        UTF_8
+    }
+
+    private static final RunScanner DEFAULT_SCANNER = RunScanners.best();
+
+    private final OperatorTrie operators;
+    private final Encoding encoding;
+    private final RunScanner scanner;
+
+    /**
+     * @param operators multi-byte symbols to recognize as single tokens (longest match wins);
+     *                  with none, every symbol byte is its own token
+     */
+    public ByteTokenizer(String... operators) {
+        this(OperatorTrie.of(operators));
+    }
+
+    public ByteTokenizer(OperatorTrie operators) {
+        this(operators, Encoding.LATIN_1);
+    }
+
+    public ByteTokenizer(OperatorTrie operators, Encoding encoding) {
+        this(operators, encoding, DEFAULT_SCANNER);
+    }
+
+    ByteTokenizer(OperatorTrie operators, Encoding encoding, RunScanner scanner) {
+        this.operators = operators;
+        this.encoding = encoding;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Tokenizes a whole in-memory input.
+     */
+    public void tokenize(byte[] input, TokenVisitor visitor) {
+        tokenize(input, 0, input.length, true, 0, visitor);
+    }
+
+    /**
+     * Tokenizes a stream through one reusable buffer. A token cut off at the end of the
+     * buffer is moved to the front and finished after the next read; the buffer only grows
+     * if a single token is larger than it.
+     *
+     * @return the number of bytes read
+     */
+    public long tokenize(InputStream in, TokenVisitor visitor) throws IOException {
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int filled = 0;
+        long base = 0;
+
+        while (true) {
+            int read = in.read(buffer, filled, buffer.length - filled);
+            boolean endOfInput = read == -1;
+            if (!endOfInput) {
+                filled += read;
+            }
+
+            int consumed = tokenize(buffer, 0, filled, endOfInput, base, visitor);
+            if (endOfInput) {
+                return base + filled;
+            }
+
+            // ↩️ Keep the unfinished tail for the next round
+            System.arraycopy(buffer, consumed, buffer, 0, filled - consumed);
+            base += consumed;
+            filled -= consumed;
+            if (filled == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+    }
+
+    /**
+     * Tokenizes {@code source} from index 0 to its capacity, e.g. a memory-mapped file region,
+     * through one reusable window like the stream variant, so the region is never copied as a
+     * whole. The buffer's position and limit are left alone.
+     *
+     * @param base the input position of {@code source.get(0)}
+     */
+    public void tokenize(ByteBuffer source, long base, TokenVisitor visitor) {
+        byte[] window = new byte[DEFAULT_BUFFER_SIZE];
+        int filled = 0;
+        int next = 0;
+        int end = source.capacity();
+
+        while (true) {
+            int chunk = Math.min(window.length - filled, end - next);
+            source.get(next, window, filled, chunk);
+            next += chunk;
+            filled += chunk;
+            boolean endOfInput = next == end;
+
+            int consumed = tokenize(window, 0, filled, endOfInput, base, visitor);
+            if (endOfInput) {
+                return;
+            }
+
+            // ↩️ Same carry-over as for streams
+            System.arraycopy(window, consumed, window, 0, filled - consumed);
+            base += consumed;
+            filled -= consumed;
+            if (filled == window.length) {
+                window = Arrays.copyOf(window, window.length * 2);
+            }
+        }
+    }
+
+    /**
+     * Scans {@code source[from .. to)} and reports every complete token.
+     * <p>
+     * Unless {@code endOfInput} is set, a token touching {@code to} might continue in data not
+     * seen yet, so scanning stops in front of it and its start is returned for the caller
+     * to rescan once more data is available.
+     *
+     * @param base the input position of {@code source[0]}
+     * @return the index up to which the range was fully tokenized
+     */
+    public int tokenize(byte[] source, int from, int to, boolean endOfInput, long base, TokenVisitor visitor) {
+        return encoding == Encoding.UTF_8
+                ? tokenizeUtf8(source, from, to, endOfInput, base, visitor)
+                : tokenizeLatin1(source, from, to, endOfInput, base, visitor);
+    }
+
+    private int tokenizeLatin1(byte[] source, int from, int to, boolean endOfInput, long base, TokenVisitor visitor) {
+        int i = from;
+        while (i < to) {
+            int cls = CLASSES[source[i] & 0xFF];
+
+            if ((cls & WORD_CHAR) != 0) {
+                int start = i;
+                long word = scanner.scanWord(source, i, to, CLASSES);
+                i = RunScanner.endOf(word);
+                if (i == to && !endOfInput) {
+                    return start;
+                }
+                visitor.token(typeOf(RunScanner.kindsOf(word)), source, start, i - start, base + start);
+            } else if (cls == SPACE) {
+                i = scanner.skipWhitespace(source, i + 1, to, CLASSES);
+            } else {
+                int length = symbolLength(source, i, to, endOfInput);
+                if (length == NEED_MORE) {
+                    return i;
+                }
+                visitor.token(TokenType.SYMBOL, source, i, length, base + i);
+                i += length;
+            }
+        }
+        return to;
+    }
+
+    private int tokenizeUtf8(byte[] source, int from, int to, boolean endOfInput, long base, TokenVisitor visitor) {
+        int i = from;
+        while (i < to) {
+            int cls;
+            int width;
+            if (source[i] >= 0) {
+                cls = ASCII_CLASSES[source[i]]; // 🏎️ ASCII: one table lookup, as in Latin-1 mode
+                width = 1;
+            } else {
+                int decoded = decodeUtf8(source, i, to, endOfInput);
+                if (decoded == NEED_MORE) {
+                    return i;
+                }
+                cls = classOf(decoded >>> 3);
+                width = decoded & 7;
+            }
+
+            if ((cls & WORD_CHAR) != 0) {
+                int start = i;
+                int kinds = 0;
+                while (true) {
+                    long word = scanner.scanWord(source, i, to, ASCII_CLASSES);
+                    i = RunScanner.endOf(word);
+                    kinds |= RunScanner.kindsOf(word);
+                    if (i == to || source[i] >= 0) {
+                        break;
+                    }
+                    // 🌍 The ASCII run stopped at a multi-byte character; keep going if it is a letter or digit
+                    int decoded = decodeUtf8(source, i, to, endOfInput);
+                    if (decoded == NEED_MORE) {
+                        return start;
+                    }
+                    int next = classOf(decoded >>> 3);
+                    if ((next & WORD_CHAR) == 0) {
+                        break;
+                    }
+                    kinds |= next;
+                    i += decoded & 7;
+                }
+                if (i == to && !endOfInput) {
+                    return start;
+                }
+                visitor.token(typeOf(kinds), source, start, i - start, base + start);
+            } else if (cls == SPACE) {
+                i = scanner.skipWhitespace(source, i + width, to, ASCII_CLASSES);
+            } else {
+                int length = symbolLength(source, i, to, endOfInput);
+                if (length == NEED_MORE) {
+                    return i;
+                }
+                length = Math.max(length, width); // a non-ASCII symbol is one whole character
+                visitor.token(TokenType.SYMBOL, source, i, length, base + i);
+                i += length;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * 🌳 Walks the operator trie for the longest match; a lone byte is a symbol too.
+     *
+     * @return the symbol length, or {@code NEED_MORE} if a longer operator could still
+     * straddle the end of the range
+     */
+    private int symbolLength(byte[] source, int i, int to, boolean endOfInput) {
+        int state = OperatorTrie.ROOT;
+        int length = 1;
+        int j = i;
+        while (j < to) {
+            int next = operators.next(state, source[j]);
+            if (next == OperatorTrie.NO_STATE) {
+                break;
+            }
+            state = next;
+            j++;
+            if (operators.isOperator(state)) {
+                length = j - i;
+            }
+        }
+        if (j == to && !endOfInput && operators.canExtend(state)) {
+            return NEED_MORE;
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the UTF-8 sequence at {@code source[i]}, a byte >= 0x80.
+     *
+     * @return the code point shifted left by 3, or'ed with the sequence length; a malformed
+     * byte decodes as a one-byte U+FFFD. {@code NEED_MORE} if the sequence is cut off by
+     * {@code to} and more input may follow.
+     */
+    static int decodeUtf8(byte[] source, int i, int to, boolean endOfInput) {
+        int lead = source[i] & 0xFF;
+        int width;
+        int codePoint;
+        int min;
+        int max;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            width = 2;
+            codePoint = lead & 0x1F;
+            min = 0x80;
+            max = 0xBF;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            width = 3;
+            codePoint = lead & 0x0F;
+            min = lead == 0xE0 ? 0xA0 : 0x80; // no overlong forms
+            max = lead == 0xED ? 0x9F : 0xBF; // no surrogates
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            width = 4;
+            codePoint = lead & 0x07;
+            min = lead == 0xF0 ? 0x90 : 0x80;
+            max = lead == 0xF4 ? 0x8F : 0xBF; // nothing above U+10FFFF
+        } else {
+            return REPLACEMENT;
+        }
+
+        for (int k = 1; k < width; k++) {
+            if (i + k == to) {
+                return endOfInput ? REPLACEMENT : NEED_MORE;
+            }
+            int b = source[i + k] & 0xFF;
+            if (b < min || b > max) {
+                return REPLACEMENT;
+            }
+            codePoint = codePoint << 6 | (b & 0x3F);
+            min = 0x80;
+            max = 0xBF;
+        }
+        return codePoint << 3 | width;
+    }
+
+    private static int classOf(int codePoint) {
+        if (Character.isLetter(codePoint)) {
+            return LETTER;
+        }
+        if (Character.isDigit(codePoint)) {
+            return DIGIT;
+        }
+        if (Character.isWhitespace(codePoint)) {
+            return SPACE;
+        }
+        return 0;
+    }
+
+    /**
+     * Whether {@code b} separates tokens. No token ever contains such a byte.
+     */
+    public static boolean isWhitespace(byte b) {
+        return CLASSES[b & 0xFF] == SPACE;
+    }
+
+    private static TokenType typeOf(int kinds) {
+        return switch (kinds) {
+            case LETTER -> TokenType.WORD;
+            case DIGIT -> TokenType.NUMBER;
+            default -> TokenType.MIXED;
+        };
+    }
+}
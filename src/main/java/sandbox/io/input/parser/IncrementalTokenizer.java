@@ -0,0 +1,335 @@
+package sandbox.io.input.parser;
+
+import java.util.Arrays;
+
+/*
+ * ✅ Explanation:
+    Keeps the token stream (and the start of every line) of a document that is edited over time,
+    and re-lexes only around each edit.
+    - Restart: the last whitespace byte before the change. No token spans whitespace, so
+      everything before it is unaffected.
+    - Resync: the first whitespace byte after the change. From there the bytes are the same as
+      before, the tokenizer starts fresh, so the old tokens are still right (just shifted).
+    - Tokens and line anchors live in gap buffers. Entries after the gap store their position
+      relative to the end of the document, so an edit never has to shift them: splicing costs
+      the re-lexed tokens plus moving the gap, which is small for edits close together.
+* */
+public final class IncrementalTokenizer {
+
+    private static final int SUFFIX_BLOCK = 4096;
+
+    private final ByteTokenizer tokenizer;
+    private final Gap tokens = new Gap(true);
+    private final Gap lines = new Gap(false); // starts of lines 1, 2, ... (line 0 starts at 0)
+
+    private byte[] source;
+    private int length;
+
+    /**
+     * What one edit changed in the token stream.
+     *
+     * @param firstToken   index of the first token that was replaced
+     * @param removed      number of old tokens dropped from there
+     * @param inserted     number of new tokens put in their place
+     * @param relexedBytes bytes the tokenizer scanned again
+     */
+    public record Splice(int firstToken, int removed, int inserted, int relexedBytes) {
+    }
+
+    public IncrementalTokenizer(ByteTokenizer tokenizer, byte[] initial) {
+        this.tokenizer = tokenizer;
+        this.source = initial.clone();
+        this.length = initial.length;
+        relex(0, 0, length, 0);
+    }
+
+    /**
+     * Replaces {@code removed} bytes at {@code offset} with {@code inserted}.
+     */
+    public Splice applyEdit(int offset, int removed, byte[] inserted) {
+        if (offset < 0 || removed < 0 || offset + removed > length) {
+            throw new IndexOutOfBoundsException("Edit [" + offset + ", " + (offset + removed)
+                    + ") is outside a document of " + length + " bytes");
+        }
+        int newLength = length - removed + inserted.length;
+        byte[] target = newLength <= source.length ? source : new byte[Math.max(newLength, source.length * 2)];
+        if (target != source) {
+            System.arraycopy(source, 0, target, 0, offset);
+        }
+        System.arraycopy(source, offset + removed, target, offset + inserted.length, length - offset - removed);
+        System.arraycopy(inserted, 0, target, offset, inserted.length);
+
+        int oldLength = length;
+        source = target;
+        length = newLength;
+        return relex(offset, offset + removed, offset + inserted.length, oldLength);
+    }
+
+    /**
+     * Takes a whole new version of the document and works out the changed range itself:
+     * the longest common prefix and suffix with the current version.
+     */
+    public Splice update(byte[] newSource) {
+        int prefix = Arrays.mismatch(source, 0, length, newSource, 0, newSource.length);
+        if (prefix == -1) {
+            return new Splice(tokenCount(), 0, 0, 0);
+        }
+        int suffix = commonSuffix(source, length, newSource, newSource.length,
+                Math.min(length, newSource.length) - prefix);
+
+        int oldLength = length;
+        source = newSource.clone();
+        length = newSource.length;
+        return relex(prefix, oldLength - suffix, length - suffix, oldLength);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * The current document. Shared, so it must not be modified.
+     */
+    public byte[] source() {
+        return source;
+    }
+
+    public int tokenCount() {
+        return tokens.size();
+    }
+
+    public TokenType typeAt(int index) {
+        return TokenType.values()[tokens.type(index)];
+    }
+
+    public int positionAt(int index) {
+        return tokens.position(index, length);
+    }
+
+    public int lengthAt(int index) {
+        return tokens.length(index);
+    }
+
+    public int lineCount() {
+        return lines.size() + 1;
+    }
+
+    public int lineStart(int line) {
+        return line == 0 ? 0 : lines.position(line - 1, length);
+    }
+
+    /**
+     * The 0-based line that byte {@code position} is on.
+     */
+    public int lineOf(int position) {
+        return lines.upperBound(position, length);
+    }
+
+    /**
+     * Sends every token, in order, to {@code visitor}; positions are offsets in {@link #source()}.
+     */
+    public void forEach(TokenVisitor visitor) {
+        TokenType[] types = TokenType.values();
+        for (int i = 0; i < tokens.size(); i++) {
+            int position = tokens.position(i, length);
+            visitor.token(types[tokens.type(i)], source, position, tokens.length(i), position);
+        }
+    }
+
+    /**
+     * Re-lexes around a change of {@code [changeStart, oldChangeEnd)} into
+     * {@code [changeStart, newChangeEnd)}; {@link #source} already holds the new bytes.
+     */
+    private Splice relex(int changeStart, int oldChangeEnd, int newChangeEnd, int oldLength) {
+        int restart = changeStart;
+        while (restart > 0 && !ByteTokenizer.isWhitespace(source[restart - 1])) {
+            restart--;
+        }
+        int resync = newChangeEnd;
+        while (resync < length && !ByteTokenizer.isWhitespace(source[resync])) {
+            resync++;
+        }
+        resync = Math.min(resync + 1, length); // just past that whitespace byte
+        int oldResync = resync - (newChangeEnd - oldChangeEnd);
+
+        // ✂️ Drop the old tokens and line starts in [restart, oldResync), positions as they were
+        int firstToken = tokens.lowerBound(restart, oldLength);
+        int removedTokens = tokens.lowerBound(oldResync, oldLength) - firstToken;
+        tokens.moveGap(firstToken, oldLength);
+        tokens.delete(removedTokens);
+
+        int firstLine = lines.upperBound(restart, oldLength);
+        lines.moveGap(firstLine, oldLength);
+        lines.delete(lines.upperBound(oldResync, oldLength) - firstLine);
+
+        // 🔁 Lex the new bytes straight into the gap; entries after it follow the new length
+        TokenBuffer relexed = new TokenBuffer(source, 16);
+        tokenizer.tokenize(source, restart, resync, true, 0, relexed);
+        for (int i = 0; i < relexed.size(); i++) {
+            tokens.insert((int) relexed.positionAt(i), relexed.typeAt(i).ordinal(), relexed.lengthAt(i));
+        }
+        for (int i = restart; i < resync; i++) {
+            if (source[i] == '\n') {
+                lines.insert(i + 1, 0, 0);
+            }
+        }
+        return new Splice(firstToken, removedTokens, relexed.size(), resync - restart);
+    }
+
+    /**
+     * Length of the common suffix, at most {@code limit}. Whole blocks are compared with
+     * {@link Arrays#equals} first, so long unchanged tails are cheap.
+     */
+    private static int commonSuffix(byte[] a, int aLength, byte[] b, int bLength, int limit) {
+        int suffix = 0;
+        while (suffix + SUFFIX_BLOCK <= limit
+                && Arrays.equals(a, aLength - suffix - SUFFIX_BLOCK, aLength - suffix,
+                b, bLength - suffix - SUFFIX_BLOCK, bLength - suffix)) {
+            suffix += SUFFIX_BLOCK;
+        }
+        while (suffix < limit && a[aLength - suffix - 1] == b[bLength - suffix - 1]) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    /**
+     * A gap buffer of sorted positions, optionally with a type and length each.
+     * Before the gap positions are absolute; after it they are {@code position - documentLength}.
+     */
+    private static final class Gap {
+
+        private int[] starts = new int[64];
+        private byte[] types;
+        private int[] lengths;
+        private int gapStart;
+        private int gapEnd = 64;
+
+        Gap(boolean withPayload) {
+            if (withPayload) {
+                types = new byte[64];
+                lengths = new int[64];
+            }
+        }
+
+        int size() {
+            return starts.length - (gapEnd - gapStart);
+        }
+
+        int position(int index, int documentLength) {
+            checkIndex(index);
+            return index < gapStart ? starts[index] : starts[index + gapEnd - gapStart] + documentLength;
+        }
+
+        byte type(int index) {
+            checkIndex(index);
+            return types[physical(index)];
+        }
+
+        int length(int index) {
+            checkIndex(index);
+            return lengths[physical(index)];
+        }
+
+        /**
+         * First index whose position is {@code >= position}.
+         */
+        int lowerBound(int position, int documentLength) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (position(mid, documentLength) < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index whose position is {@code > position}.
+         */
+        int upperBound(int position, int documentLength) {
+            return lowerBound(position + 1, documentLength);
+        }
+
+        void moveGap(int index, int documentLength) {
+            int gap = gapEnd - gapStart;
+            while (gapStart > index) { // entries [index, gapStart) go behind the gap
+                gapStart--;
+                gapEnd--;
+                move(gapStart, gapEnd);
+                starts[gapEnd] -= documentLength;
+            }
+            while (gapStart < index) { // entries after the gap come in front of it
+                move(gapEnd, gapStart);
+                starts[gapStart] += documentLength;
+                gapStart++;
+                gapEnd++;
+            }
+            assert gapEnd - gapStart == gap;
+        }
+
+        /**
+         * Removes {@code count} entries right after the gap.
+         */
+        void delete(int count) {
+            gapEnd += count;
+        }
+
+        /**
+         * Adds an entry in front of the gap, with an absolute position.
+         */
+        void insert(int position, int type, int length) {
+            if (gapStart == gapEnd) {
+                grow();
+            }
+            starts[gapStart] = position;
+            if (types != null) {
+                types[gapStart] = (byte) type;
+                lengths[gapStart] = length;
+            }
+            gapStart++;
+        }
+
+        private void move(int from, int to) {
+            starts[to] = starts[from];
+            if (types != null) {
+                types[to] = types[from];
+                lengths[to] = lengths[from];
+            }
+        }
+
+        private void grow() {
+            int capacity = starts.length * 2;
+            int tail = starts.length - gapEnd;
+            int newGapEnd = capacity - tail;
+            starts = regrow(starts, capacity, tail, newGapEnd);
+            if (types != null) {
+                byte[] grownTypes = Arrays.copyOf(types, capacity);
+                System.arraycopy(types, gapEnd, grownTypes, newGapEnd, tail);
+                types = grownTypes;
+                lengths = regrow(lengths, capacity, tail, newGapEnd);
+            }
+            gapEnd = newGapEnd;
+        }
+
+        private int[] regrow(int[] column, int capacity, int tail, int newGapEnd) {
+            int[] grown = Arrays.copyOf(column, capacity);
+            System.arraycopy(column, gapEnd, grown, newGapEnd, tail);
+            return grown;
+        }
+
+        private int physical(int index) {
+            return index < gapStart ? index : index + gapEnd - gapStart;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of " + size());
+            }
+        }
+    }
+}
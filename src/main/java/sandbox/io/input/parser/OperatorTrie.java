@@ -0,0 +1,144 @@
+package sandbox.io.input.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+ * ✅ Explanation:
+    A set of operators ("==", ">>>=", "...") compiled into a byte-level trie (a small DFA).
+    Bytes that appear in any operator are remapped to dense columns, so the whole trie is one
+    int[] transition table: next = transitions[state * width + column[byte]].
+    Walking it is a few array reads per byte - no Strings, no Sets, no allocation - and finds
+    the longest operator at a position no matter how long the operators are.
+* */
+public final class OperatorTrie {
+
+    public static final OperatorTrie NONE = of();
+
+    /**
+     * Operators and multi-character separators of the Java language.
+     */
+    public static final OperatorTrie JAVA = of(
+            ">>>=", "<<=", ">>=", ">>>", "...", "->", "::",
+            "==", "!=", "<=", ">=", "&&", "||", "++", "--",
+            "+=", "-=", "*=", "/=", "%=", "&=", "|=", "^=", "<<", ">>"
+    );
+
+    static final int ROOT = 0;
+    static final int NO_STATE = 0; // 🌱 The root is never a transition target, so 0 can mean "none"
+
+    private final int[] columns = new int[256];
+    private final int width;
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final boolean[] hasChildren;
+    private final int maxLength;
+
+    private OperatorTrie(byte[][] operators) {
+        int alphabet = 0;
+        int maxLength = 0;
+        int maxStates = 1;
+        for (byte[] operator : operators) {
+            for (byte b : operator) {
+                if (columns[b & 0xFF] == 0) {
+                    columns[b & 0xFF] = ++alphabet;
+                }
+            }
+            maxLength = Math.max(maxLength, operator.length);
+            maxStates += operator.length;
+        }
+        this.width = alphabet + 1; // column 0 = byte not used by any operator
+        this.maxLength = maxLength;
+
+        int[] transitions = new int[maxStates * width];
+        boolean[] accepting = new boolean[maxStates];
+        boolean[] hasChildren = new boolean[maxStates];
+        int states = 1;
+        for (byte[] operator : operators) {
+            int state = ROOT;
+            for (byte b : operator) {
+                int slot = state * width + columns[b & 0xFF];
+                if (transitions[slot] == NO_STATE) {
+                    transitions[slot] = states++;
+                    hasChildren[state] = true;
+                }
+                state = transitions[slot];
+            }
+            accepting[state] = true;
+        }
+
+        this.transitions = Arrays.copyOf(transitions, states * width);
+        this.accepting = Arrays.copyOf(accepting, states);
+        this.hasChildren = Arrays.copyOf(hasChildren, states);
+    }
+
+    /**
+     * Operators must be non-empty ASCII punctuation: the tokenizer only hands bytes to the trie
+     * that are neither letters, digits nor whitespace, and whitespace always ends a token
+     * (ParallelTokenizer and IncrementalTokenizer rely on that).
+     *
+     * @throws IllegalArgumentException for an empty operator or one with any other character
+     */
+    public static OperatorTrie of(String... operators) {
+        byte[][] bytes = new byte[operators.length][];
+        for (int i = 0; i < operators.length; i++) {
+            String operator = operators[i];
+            if (operator.isEmpty()) {
+                throw new IllegalArgumentException("Operators must not be empty");
+            }
+            for (int j = 0; j < operator.length(); j++) {
+                char c = operator.charAt(j);
+                if (c > 0x7F || ByteTokenizer.CLASSES[c] != 0) {
+                    throw new IllegalArgumentException(
+                            "Operators must be ASCII without letters, digits or whitespace: \"" + operator + "\"");
+                }
+            }
+            bytes[i] = operator.getBytes(StandardCharsets.US_ASCII);
+        }
+        return new OperatorTrie(bytes);
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * The state reached from {@code state} on byte {@code b}, or {@link #NO_STATE}.
+     */
+    int next(int state, byte b) {
+        return transitions[state * width + columns[b & 0xFF]];
+    }
+
+    /**
+     * Whether the bytes leading to {@code state} spell a whole operator.
+     */
+    boolean isOperator(int state) {
+        return accepting[state];
+    }
+
+    /**
+     * Whether a longer operator could still follow from {@code state}.
+     */
+    boolean canExtend(int state) {
+        return hasChildren[state];
+    }
+
+    /**
+     * Length of the longest operator starting at {@code source[start]} that ends before
+     * {@code end}, or 0 if none does.
+     */
+    public int longestMatch(byte[] source, int start, int end) {
+        int state = ROOT;
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            state = next(state, source[i]);
+            if (state == NO_STATE) {
+                break;
+            }
+            if (accepting[state]) {
+                length = i - start + 1;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,201 @@
+package sandbox.io.input.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/*
+ * ✅ Explanation:
+    Tokenizes one large file on all cores.
+    1. The file is cut into segments of about segmentSize bytes. Each cut is moved forward to
+       just after a whitespace byte - no token contains whitespace (OperatorTrie.of rejects
+       operators that do), so no token straddles a cut.
+    2. Each segment is memory-mapped and tokenized on a ForkJoinPool worker straight from the
+       mapping, through a small reusable window. TokenBuffers keep offsets into the mapping,
+       not copies of the bytes, and grow with the number of tokens actually found.
+    3. Results come back in file order: either replayed token by token (forEachToken) or
+       reduced pairwise, left before right (aggregate).
+* */
+public final class ParallelTokenizer {
+
+    static final int DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024;
+    private static final int BOUNDARY_PROBE_SIZE = 4096;
+    private static final int INITIAL_TOKEN_CAPACITY = 1024;
+
+    private final ByteTokenizer tokenizer;
+    private final ForkJoinPool pool;
+    private final int segmentSize;
+
+    public ParallelTokenizer(ByteTokenizer tokenizer) {
+        this(tokenizer, ForkJoinPool.commonPool(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    public ParallelTokenizer(ByteTokenizer tokenizer, ForkJoinPool pool, int segmentSize) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("segmentSize must be positive");
+        }
+        this.tokenizer = tokenizer;
+        this.pool = pool;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Tokenizes segments in parallel and hands every token to {@code visitor} in file order,
+     * on the calling thread. Only the token columns of a few segments ahead of the one being
+     * replayed are kept in memory; the bytes themselves stay in the page cache.
+     *
+     * @return the number of bytes tokenized
+     */
+    public long forEachToken(Path file, TokenVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] cuts = split(channel);
+            int window = Math.max(2, pool.getParallelism() * 2);
+            Deque<ForkJoinTask<TokenBuffer>> pending = new ArrayDeque<>();
+
+            int next = 0;
+            while (next < cuts.length - 1 || !pending.isEmpty()) {
+                while (next < cuts.length - 1 && pending.size() < window) {
+                    long start = cuts[next];
+                    long end = cuts[next + 1];
+                    pending.addLast(pool.submit(() -> record(channel, start, end)));
+                    next++;
+                }
+                pending.removeFirst().join().replay(visitor);
+            }
+            return channel.size();
+        }
+    }
+
+    /**
+     * Tokenizes every segment into its own accumulator from {@code perSegment}, then merges
+     * neighbours with {@code merge(left, right)} until one remains. Merges always combine
+     * adjacent ranges, left first, so an order-sensitive merge sees the file in order.
+     */
+    public <A extends TokenVisitor> A aggregate(Path file, Supplier<A> perSegment, BinaryOperator<A> merge)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] cuts = split(channel);
+            return pool.invoke(new SegmentTask<>(channel, cuts, 0, cuts.length - 1, perSegment, merge));
+        }
+    }
+
+    /**
+     * Segment boundaries: {@code cuts[i] .. cuts[i + 1]} is segment {@code i}.
+     */
+    long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> cuts = new ArrayList<>();
+        cuts.add(0L);
+        long position = 0;
+        while (position < size) {
+            position = nextBoundary(channel, position, Math.min(size, position + segmentSize), size);
+            cuts.add(position);
+        }
+        return cuts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 🔍 First position at or after {@code from} that directly follows a whitespace byte.
+     * A segment is mapped as one buffer, so it may not grow past 2 GB from {@code segmentStart}.
+     */
+    private static long nextBoundary(FileChannel channel, long segmentStart, long from, long size) throws IOException {
+        if (from >= size || isBoundary(channel, from)) {
+            return from;
+        }
+        long limit = Math.min(size, segmentStart + Integer.MAX_VALUE);
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+        long position = from;
+        while (position < limit) {
+            probe.clear().limit((int) Math.min(BOUNDARY_PROBE_SIZE, limit - position));
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (ByteTokenizer.isWhitespace(probe.get(i))) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        if (limit < size) {
+            throw new IOException("No whitespace within 2 GB after position " + segmentStart
+                    + "; a single token that long cannot be tokenized");
+        }
+        return size; // one giant token runs to the end of the file
+    }
+
+    private static boolean isBoundary(FileChannel channel, long position) throws IOException {
+        ByteBuffer previous = ByteBuffer.allocate(1);
+        return channel.read(previous, position - 1) == 1 && ByteTokenizer.isWhitespace(previous.get(0));
+    }
+
+    private TokenBuffer record(FileChannel channel, long start, long end) {
+        MappedByteBuffer segment = map(channel, start, end);
+        TokenBuffer tokens = new TokenBuffer(segment, start, INITIAL_TOKEN_CAPACITY);
+        tokenizer.tokenize(segment, start, tokens);
+        return tokens;
+    }
+
+    private <A extends TokenVisitor> A scan(FileChannel channel, long start, long end, Supplier<A> perSegment) {
+        A accumulator = perSegment.get();
+        tokenizer.tokenize(map(channel, start, end), start, accumulator);
+        return accumulator;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long start, long end) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class SegmentTask<A extends TokenVisitor> extends RecursiveTask<A> {
+
+        private final FileChannel channel;
+        private final long[] cuts;
+        private final int from;
+        private final int to;
+        private final Supplier<A> perSegment;
+        private final BinaryOperator<A> merge;
+
+        SegmentTask(FileChannel channel, long[] cuts, int from, int to, Supplier<A> perSegment,
+                    BinaryOperator<A> merge) {
+            this.channel = channel;
+            this.cuts = cuts;
+            this.from = from;
+            this.to = to;
+            this.perSegment = perSegment;
+            this.merge = merge;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from == 0) {
+                return perSegment.get(); // empty file
+            }
+            if (to - from == 1) {
+                return scan(channel, cuts[from], cuts[to], perSegment);
+            }
+            int middle = (from + to) >>> 1;
+            SegmentTask<A> right = new SegmentTask<>(channel, cuts, middle, to, perSegment, merge);
+            right.fork();
+            A left = new SegmentTask<>(channel, cuts, from, middle, perSegment, merge).compute();
+            return merge.apply(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package sandbox.io.input.parser;
+
+/**
+ * Finds where a run of word bytes or whitespace ends. {@link ByteTokenizer} spends most of
+ * its time here, so there is a scalar and a SIMD implementation, picked once at startup.
+ */
+interface RunScanner {
+
+    /**
+     * Scans the word run starting at {@code from}. ASCII bytes are classified the same way by
+     * every table; bytes from 0x80 up are looked up in {@code classes}.
+     *
+     * @return the end of the run in the low 32 bits and the {@code LETTER}/{@code DIGIT}
+     * kinds seen in the high 32 bits
+     */
+    long scanWord(byte[] source, int from, int to, byte[] classes);
+
+    /**
+     * @return the first index at or after {@code from} that is not whitespace, or {@code to}
+     */
+    int skipWhitespace(byte[] source, int from, int to, byte[] classes);
+
+    static long packWord(int end, int kinds) {
+        return (long) kinds << 32 | end;
+    }
+
+    static int endOf(long word) {
+        return (int) word;
+    }
+
+    static int kindsOf(long word) {
+        return (int) (word >>> 32);
+    }
+}
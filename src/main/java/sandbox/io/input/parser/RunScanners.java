@@ -0,0 +1,29 @@
+package sandbox.io.input.parser;
+
+/**
+ * Picks the {@link RunScanner} for this JVM.
+ * <p>
+ * The Vector API is an incubator module, so it is only there when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}. Without it, or with
+ * {@code -Dtokenizer.vector=false}, the scalar scanner is used and the vector classes are
+ * never loaded.
+ */
+final class RunScanners {
+
+    private RunScanners() {
+    }
+
+    static RunScanner best() {
+        if (!Boolean.parseBoolean(System.getProperty("tokenizer.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarRunScanner.INSTANCE;
+        }
+        try {
+            return (RunScanner) Class.forName("sandbox.io.input.parser.VectorRunScanner")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarRunScanner.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package sandbox.io.input.parser;
+
+/**
+ * One table lookup per byte.
+ */
+final class ScalarRunScanner implements RunScanner {
+
+    static final ScalarRunScanner INSTANCE = new ScalarRunScanner();
+
+    private ScalarRunScanner() {
+    }
+
+    @Override
+    public long scanWord(byte[] source, int from, int to, byte[] classes) {
+        return scanWord(source, from, to, classes, 0);
+    }
+
+    /**
+     * Continues a run whose earlier bytes already produced {@code kinds}.
+     */
+    static long scanWord(byte[] source, int from, int to, byte[] classes, int kinds) {
+        int i = from;
+        int cls;
+        while (i < to && ((cls = classes[source[i] & 0xFF]) & ByteTokenizer.WORD_CHAR) != 0) {
+            kinds |= cls;
+            i++;
+        }
+        return RunScanner.packWord(i, kinds);
+    }
+
+    @Override
+    public int skipWhitespace(byte[] source, int from, int to, byte[] classes) {
+        return skipWhitespaceFrom(source, from, to, classes);
+    }
+
+    static int skipWhitespaceFrom(byte[] source, int from, int to, byte[] classes) {
+        int i = from;
+        while (i < to && classes[source[i] & 0xFF] == ByteTokenizer.SPACE) {
+            i++;
+        }
+        return i;
+    }
+}
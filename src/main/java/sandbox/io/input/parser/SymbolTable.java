@@ -0,0 +1,206 @@
+package sandbox.io.input.parser;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+ * ✅ Explanation:
+    Interns tokens straight from the byte range the tokenizer reports.
+    Each distinct token gets a dense int id (0, 1, 2, ...). Its bytes are copied once into an arena;
+    lookups hash the range and probe an open-addressing table (linear probing), comparing bytes
+    in place - a token seen before costs no allocation at all.
+    Memory grows with the number of distinct tokens, not the number of tokens.
+    Not thread-safe: use one table per thread, or merge them afterwards.
+* */
+public final class SymbolTable {
+
+    private static final int NO_ID = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final Charset charset;
+
+    private int[] slots;      // id + 1 per slot, 0 = empty
+    private int mask;
+
+    private byte[] arena = new byte[4096];
+    private int arenaSize;
+    private int[] starts = new int[64];
+    private int[] lengths = new int[64];
+    private int[] hashes = new int[64];
+    private String[] names = new String[64];
+    private int size;
+
+    public SymbolTable() {
+        this(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param charset how {@link #name(int)} decodes symbols; match the tokenizer's encoding
+     */
+    public SymbolTable(Charset charset) {
+        this(1024, charset);
+    }
+
+    public SymbolTable(int expectedSymbols, Charset charset) {
+        this.charset = charset;
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSymbols / LOAD_FACTOR)) - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the id of {@code source[offset .. offset + length)}, adding it if it is new.
+     */
+    public int intern(byte[] source, int offset, int length) {
+        int hash = hash(source, offset, length);
+        int slot = hash & mask;
+        while (true) {
+            int id = slots[slot] - 1;
+            if (id == NO_ID) {
+                id = add(source, offset, length, hash);
+                slots[slot] = id + 1;
+                if (size > slots.length * LOAD_FACTOR) {
+                    rehash();
+                }
+                return id;
+            }
+            if (hashes[id] == hash && matches(id, source, offset, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Interns symbol {@code id} of another table, reading its bytes in place.
+     */
+    public int intern(SymbolTable other, int id) {
+        other.checkId(id);
+        return intern(other.arena, other.starts[id], other.lengths[id]);
+    }
+
+    /**
+     * Adapts this table to a tokenizer: every token is interned and passed on as its id,
+     * so the consumer works with ints instead of byte ranges or Strings.
+     */
+    public TokenVisitor interning(SymbolVisitor visitor) {
+        return (type, source, offset, length, position) ->
+                visitor.symbol(type, intern(source, offset, length), position);
+    }
+
+    /**
+     * Returns the id of the range, or -1 if it was never interned.
+     */
+    public int find(byte[] source, int offset, int length) {
+        int hash = hash(source, offset, length);
+        int slot = hash & mask;
+        while (true) {
+            int id = slots[slot] - 1;
+            if (id == NO_ID || (hashes[id] == hash && matches(id, source, offset, length))) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Number of distinct symbols; ids run from 0 to {@code size() - 1}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The symbol as a String, decoded once per id and then reused.
+     */
+    public String name(int id) {
+        checkId(id);
+        String name = names[id];
+        if (name == null) {
+            name = new String(arena, starts[id], lengths[id], charset);
+            names[id] = name;
+        }
+        return name;
+    }
+
+    public int length(int id) {
+        checkId(id);
+        return lengths[id];
+    }
+
+    /**
+     * Copies the symbol's bytes into {@code target} at {@code offset}.
+     */
+    public void copyBytes(int id, byte[] target, int offset) {
+        checkId(id);
+        System.arraycopy(arena, starts[id], target, offset, lengths[id]);
+    }
+
+    /**
+     * Bytes held by the arena, i.e. the total length of all distinct symbols.
+     */
+    public int arenaBytes() {
+        return arenaSize;
+    }
+
+    private int add(byte[] source, int offset, int length, int hash) {
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+        }
+        System.arraycopy(source, offset, arena, arenaSize, length);
+
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+        starts[size] = arenaSize;
+        lengths[size] = length;
+        hashes[size] = hash;
+        arenaSize += length;
+        return size++;
+    }
+
+    private boolean matches(int id, byte[] source, int offset, int length) {
+        return lengths[id] == length
+                && Arrays.equals(arena, starts[id], starts[id] + length, source, offset, offset + length);
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No symbol with id " + id);
+        }
+    }
+
+    /**
+     * 🔢 FNV-1a, with the high bits folded down because slots are picked by the low bits.
+     */
+    private static int hash(byte[] source, int offset, int length) {
+        int h = 0x811C9DC5;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = (h ^ (source[i] & 0xFF)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    @FunctionalInterface
+    public interface SymbolVisitor {
+
+        void symbol(TokenType type, int id, long position);
+    }
+}
@@ -0,0 +1,115 @@
+package sandbox.io.input.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+ * ✅ Explanation:
+    Records tokens column by column (type / offset / length arrays, 9 bytes per token) instead
+    of one object per token. Offsets are relative to the start of the source buffer, which may
+    be a memory-mapped file region: the token bytes are not copied while recording.
+    A worker thread fills one buffer per segment; the results are then replayed in input order.
+    The columns start small and double as tokens arrive.
+* */
+public final class TokenBuffer implements TokenVisitor {
+
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final int MIN_CAPACITY = 16;
+
+    private final ByteBuffer source;
+    private final long base;
+    private byte[] types;
+    private int[] offsets;
+    private int[] lengths;
+    private int size;
+
+    /**
+     * @param source the array the recorded tokens were found in; token positions are indexes into it
+     */
+    public TokenBuffer(byte[] source, int initialCapacity) {
+        this(ByteBuffer.wrap(source), 0, initialCapacity);
+    }
+
+    /**
+     * @param source the bytes the tokens are found in, from index 0
+     * @param base   the input position of {@code source.get(0)}
+     */
+    public TokenBuffer(ByteBuffer source, long base, int initialCapacity) {
+        this.source = source;
+        this.base = base;
+        int capacity = Math.max(initialCapacity, MIN_CAPACITY);
+        this.types = new byte[capacity];
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    /**
+     * Only {@code position} and {@code length} are kept; the bytes are read from this buffer's
+     * own source again on replay.
+     */
+    @Override
+    public void token(TokenType type, byte[] source, int offset, int length, long position) {
+        long at = position - base;
+        if (at < 0 || at + length > this.source.capacity()) {
+            throw new IllegalArgumentException("Token at " + position + " is outside this buffer's source");
+        }
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        types[size] = (byte) type.ordinal();
+        offsets[size] = (int) at;
+        lengths[size] = length;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType typeAt(int index) {
+        return TYPES[types[index]];
+    }
+
+    public long positionAt(int index) {
+        return base + offsets[index];
+    }
+
+    public int lengthAt(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Sends every recorded token, in order, to {@code visitor}. An array-backed source is passed
+     * as it is; any other source is copied a window at a time, so each token is copied once.
+     */
+    public void replay(TokenVisitor visitor) {
+        if (source.hasArray()) {
+            byte[] array = source.array();
+            int shift = source.arrayOffset();
+            for (int i = 0; i < size; i++) {
+                visitor.token(TYPES[types[i]], array, shift + offsets[i], lengths[i], base + offsets[i]);
+            }
+            return;
+        }
+
+        byte[] window = new byte[ByteTokenizer.DEFAULT_BUFFER_SIZE];
+        int windowStart = 0;
+        int windowEnd = 0;
+        for (int i = 0; i < size; i++) {
+            int offset = offsets[i];
+            int length = lengths[i];
+            if (offset < windowStart || offset + length > windowEnd) {
+                if (length > window.length) {
+                    window = new byte[length];
+                }
+                windowStart = offset;
+                windowEnd = offset + Math.min(window.length, source.capacity() - offset);
+                source.get(windowStart, window, 0, windowEnd - windowStart);
+            }
+            visitor.token(TYPES[types[i]], window, offset - windowStart, length, base + offset);
+        }
+    }
+}
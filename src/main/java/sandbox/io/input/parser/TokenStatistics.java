@@ -0,0 +1,177 @@
+package sandbox.io.input.parser;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * ✅ Explanation:
+    Counts how often each token occurs, per token type, plus a histogram of number lengths.
+    Tokens are interned into one SymbolTable per type, and the counts live in a long[] indexed
+    by symbol id - an open-addressing map with primitive keys and values, no boxed Integers.
+    Not thread-safe: every thread counts into its own instance, and merge() combines them,
+    e.g. ParallelTokenizer.aggregate(file, TokenStatistics::new, TokenStatistics::merge).
+* */
+public final class TokenStatistics implements TokenVisitor {
+
+    static final int MAX_NUMBER_LENGTH = 32; // longer numbers share the last bucket
+
+    private final Charset charset;
+    private final SymbolTable[] symbols;
+    private final long[][] counts;
+    private final long[] totals;
+    private final long[] numberLengths = new long[MAX_NUMBER_LENGTH + 1];
+
+    public TokenStatistics(Charset charset) {
+        this.charset = charset;
+        int types = TokenType.values().length;
+        this.symbols = new SymbolTable[types];
+        this.counts = new long[types][];
+        this.totals = new long[types];
+        for (int t = 0; t < types; t++) {
+            symbols[t] = new SymbolTable(1024, charset);
+            counts[t] = new long[1024];
+        }
+    }
+
+    @Override
+    public void token(TokenType type, byte[] source, int offset, int length, long position) {
+        int t = type.ordinal();
+        add(t, symbols[t].intern(source, offset, length), 1);
+        if (type == TokenType.NUMBER) {
+            numberLengths[Math.min(length, MAX_NUMBER_LENGTH)]++;
+        }
+    }
+
+    /**
+     * Adds everything {@code other} counted to this instance and returns this one.
+     */
+    public TokenStatistics merge(TokenStatistics other) {
+        for (int t = 0; t < symbols.length; t++) {
+            SymbolTable from = other.symbols[t];
+            for (int id = 0; id < from.size(); id++) {
+                add(t, symbols[t].intern(from, id), other.counts[t][id]);
+            }
+        }
+        for (int length = 0; length < numberLengths.length; length++) {
+            numberLengths[length] += other.numberLengths[length];
+        }
+        return this;
+    }
+
+    public long total(TokenType type) {
+        return totals[type.ordinal()];
+    }
+
+    public int distinct(TokenType type) {
+        return symbols[type.ordinal()].size();
+    }
+
+    public long count(TokenType type, String token) {
+        byte[] bytes = token.getBytes(charset);
+        int id = symbols[type.ordinal()].find(bytes, 0, bytes.length);
+        return id < 0 ? 0 : counts[type.ordinal()][id];
+    }
+
+    /**
+     * How many numbers had each length in bytes; the last bucket also holds longer ones.
+     */
+    public long[] numberLengthHistogram() {
+        return numberLengths.clone();
+    }
+
+    /**
+     * The {@code k} most frequent tokens of a type, most frequent first. A min-heap of ids keeps
+     * the best {@code k} seen so far, so this is O(distinct * log k) and only names the winners.
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<TokenCount> top(TokenType type, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be >= 0: " + k);
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        int t = type.ordinal();
+        long[] typeCounts = counts[t];
+        int distinct = symbols[t].size();
+        int[] heap = new int[Math.min(k, distinct)];
+        int size = 0;
+
+        for (int id = 0; id < distinct; id++) {
+            if (size < heap.length) {
+                heap[size] = id;
+                siftUp(heap, size++, typeCounts);
+            } else if (size > 0 && ranksAbove(id, heap[0], typeCounts)) {
+                heap[0] = id;
+                siftDown(heap, size, typeCounts);
+            }
+        }
+
+        TokenCount[] result = new TokenCount[size];
+        while (size > 0) {
+            int id = heap[0];
+            result[--size] = new TokenCount(symbols[t].name(id), typeCounts[id]);
+            heap[0] = heap[size];
+            siftDown(heap, size, typeCounts);
+        }
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    public record TokenCount(String token, long count) {
+    }
+
+    private void add(int type, int id, long count) {
+        if (id >= counts[type].length) {
+            counts[type] = Arrays.copyOf(counts[type], Math.max(counts[type].length * 2, id + 1));
+        }
+        counts[type][id] += count;
+        totals[type] += count;
+    }
+
+    /**
+     * Higher count first; on a tie the symbol seen first wins, so results are stable.
+     */
+    private static boolean ranksAbove(int a, int b, long[] counts) {
+        return counts[a] != counts[b] ? counts[a] > counts[b] : a < b;
+    }
+
+    private static void siftUp(int[] heap, int index, long[] counts) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], heap[index], counts)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, long[] counts) {
+        int index = 0;
+        while (true) {
+            int lowest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && ranksAbove(heap[lowest], heap[left], counts)) {
+                lowest = left;
+            }
+            if (right < size && ranksAbove(heap[lowest], heap[right], counts)) {
+                lowest = right;
+            }
+            if (lowest == index) {
+                return;
+            }
+            swap(heap, index, lowest);
+            index = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
@@ -0,0 +1,214 @@
+package sandbox.io.input.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * ✅ Explanation:
+    Reads a file written by TokenStreamWriter without copying it onto the heap:
+    each column is memory-mapped and decoded straight from the page cache.
+    A single mapping is limited to 2 GB, so columns are mapped in 1 GB chunks and addressed
+    with long offsets; chunk sizes are multiples of 8, so a fixed-width value never straddles two.
+    Fixed-width streams also allow random access to token i.
+* */
+public final class TokenStreamReader implements Closeable {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private static final TokenType[] TYPES = TokenType.values();
+
+    private final FileChannel channel;
+    private final boolean deltaEncoded;
+    private final long count;
+    private final MappedColumn types;
+    private final MappedColumn positions;
+    private final MappedColumn lengths;
+
+    public TokenStreamReader(Path file) throws IOException {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    TokenStreamReader(Path file, int chunkSize) throws IOException {
+        if (chunkSize <= 0 || chunkSize % 8 != 0) {
+            throw new IllegalArgumentException("chunkSize must be a positive multiple of 8");
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(TokenStreamWriter.HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) <= 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < TokenStreamWriter.HEADER_SIZE || header.getInt() != TokenStreamWriter.MAGIC) {
+                throw new IOException("Not a token stream: " + file);
+            }
+            byte version = header.get();
+            if (version != TokenStreamWriter.VERSION) {
+                throw new IOException("Unsupported token stream version " + version);
+            }
+            this.deltaEncoded = (header.get() & TokenStreamWriter.DELTA_VARINT) != 0;
+            header.getShort();
+            this.count = header.getLong();
+            long typesSize = header.getLong();
+            long positionsSize = header.getLong();
+            long lengthsSize = header.getLong();
+
+            long offset = TokenStreamWriter.HEADER_SIZE;
+            if (!columnsFit(count, typesSize, positionsSize, lengthsSize)
+                    || offset + typesSize + positionsSize + lengthsSize != channel.size()) {
+                throw new IOException("Token stream is truncated or corrupt: " + file);
+            }
+            this.types = new MappedColumn(channel, offset, typesSize, chunkSize);
+            offset += typesSize;
+            this.positions = new MappedColumn(channel, offset, positionsSize, chunkSize);
+            offset += positionsSize;
+            this.lengths = new MappedColumn(channel, offset, lengthsSize, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Fixed-width columns hold exactly 8 and 4 bytes per token; varint columns 1 to 10 bytes per
+     * gap and 1 to 5 per length. Checked at open, so a bad file fails here instead of on a read.
+     */
+    private boolean columnsFit(long count, long typesSize, long positionsSize, long lengthsSize) {
+        if (count < 0 || count > Long.MAX_VALUE / 10 || typesSize != count) {
+            return false;
+        }
+        if (!deltaEncoded) {
+            return positionsSize == count * 8 && lengthsSize == count * 4;
+        }
+        return positionsSize >= count && positionsSize <= count * 10
+                && lengthsSize >= count && lengthsSize <= count * 5;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean deltaEncoded() {
+        return deltaEncoded;
+    }
+
+    /**
+     * Decodes every token in order.
+     */
+    public void forEach(TokenRecordVisitor visitor) {
+        long positionIndex = 0;
+        long lengthIndex = 0;
+        long previousEnd = 0;
+        for (long i = 0; i < count; i++) {
+            TokenType type = TYPES[types.get(i)];
+            long position;
+            int length;
+            if (deltaEncoded) {
+                // 🔢 Varints inline: value in the low 7 bits, high bit = more bytes follow
+                long gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = positions.get(positionIndex++);
+                    gap |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                long len = 0;
+                shift = 0;
+                do {
+                    b = lengths.get(lengthIndex++);
+                    len |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                position = previousEnd + gap;
+                length = (int) len;
+                previousEnd = position + length;
+            } else {
+                position = positions.getLong(positionIndex);
+                positionIndex += 8;
+                length = lengths.getInt(lengthIndex);
+                lengthIndex += 4;
+            }
+            visitor.token(type, position, length);
+        }
+    }
+
+    /**
+     * Random access; only fixed-width streams support it, since varints must be read in order.
+     */
+    public TokenType typeAt(long index) {
+        checkIndex(index);
+        return TYPES[types.get(index)];
+    }
+
+    public long positionAt(long index) {
+        checkRandomAccess(index);
+        return positions.getLong(index * 8);
+    }
+
+    public int lengthAt(long index) {
+        checkRandomAccess(index);
+        return lengths.getInt(index * 4);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void checkRandomAccess(long index) {
+        if (deltaEncoded) {
+            throw new UnsupportedOperationException("Delta-encoded streams can only be read with forEach");
+        }
+        checkIndex(index);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("No token " + index + " in a stream of " + count);
+        }
+    }
+
+    @FunctionalInterface
+    public interface TokenRecordVisitor {
+
+        void token(TokenType type, long position, int length);
+    }
+
+    /**
+     * One column mapped as consecutive chunks of {@code chunkSize} bytes.
+     */
+    private static final class MappedColumn {
+
+        private final MappedByteBuffer[] chunks;
+        private final int chunkSize;
+
+        MappedColumn(FileChannel channel, long offset, long size, int chunkSize) throws IOException {
+            this.chunkSize = chunkSize;
+            this.chunks = new MappedByteBuffer[(int) ((size + chunkSize - 1) / chunkSize)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i * chunkSize;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, Math.min(chunkSize, size - start));
+            }
+        }
+
+        byte get(long index) {
+            return chunks[(int) (index / chunkSize)].get((int) (index % chunkSize));
+        }
+
+        int getInt(long index) {
+            return chunks[(int) (index / chunkSize)].getInt((int) (index % chunkSize));
+        }
+
+        long getLong(long index) {
+            return chunks[(int) (index / chunkSize)].getLong((int) (index % chunkSize));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package sandbox.io.input.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * ✅ Explanation:
+    Persists a token stream so later jobs can read it back instead of lexing the text again.
+    Each column is streamed to its own temporary file next to the target through a 64 KB buffer,
+    so memory stays flat however many tokens arrive. finish() assembles the file:
+
+    header (40 bytes, big-endian)
+        int   magic "TOKS"
+        byte  version
+        byte  flags          (bit 0 = DELTA_VARINT)
+        short reserved
+        long  token count
+        long  bytes in the types column
+        long  bytes in the positions column
+        long  bytes in the lengths column
+    types       one TokenType ordinal byte per token
+    positions   long per token, or with DELTA_VARINT the gap since the previous token's end
+    lengths     int per token, or with DELTA_VARINT a varint
+
+    The assembled file is moved onto the target only when it is complete. close() without
+    finish() - e.g. because tokenizing threw inside try-with-resources - just deletes the
+    temporary files, so a failed run never leaves a valid-looking partial stream behind.
+
+    Tokens are separated by little or no whitespace, so with DELTA_VARINT most gaps and lengths
+    fit in one byte each: about 3 bytes per token instead of 13.
+* */
+public final class TokenStreamWriter implements TokenVisitor, Closeable {
+
+    static final int MAGIC = 0x544F4B53; // "TOKS"
+    static final byte VERSION = 1;
+    static final byte DELTA_VARINT = 1;
+    static final int HEADER_SIZE = 40;
+
+    private static final int COLUMN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final boolean deltaEncoded;
+
+    private final Column types;
+    private final Column positions;
+    private final Column lengths;
+    private long count;
+    private long previousEnd;
+    private boolean closed;
+
+    /**
+     * @param deltaEncoded store positions as varint gaps and lengths as varints; tokens must
+     *                     then arrive in position order without overlapping
+     */
+    public TokenStreamWriter(Path file, boolean deltaEncoded) throws IOException {
+        this.file = file;
+        this.deltaEncoded = deltaEncoded;
+        Path dir = file.toAbsolutePath().getParent();
+        String name = file.getFileName().toString();
+        Column typesColumn = null;
+        Column positionsColumn = null;
+        Column lengthsColumn = null;
+        try {
+            typesColumn = new Column(Files.createTempFile(dir, name, ".types"));
+            positionsColumn = new Column(Files.createTempFile(dir, name, ".positions"));
+            lengthsColumn = new Column(Files.createTempFile(dir, name, ".lengths"));
+        } catch (IOException | RuntimeException e) {
+            discard(typesColumn);
+            discard(positionsColumn);
+            throw e;
+        }
+        this.types = typesColumn;
+        this.positions = positionsColumn;
+        this.lengths = lengthsColumn;
+    }
+
+    @Override
+    public void token(TokenType type, byte[] source, int offset, int length, long position) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        // Checked before anything is written, so a rejected token leaves all three columns alike
+        if (deltaEncoded && position < previousEnd) {
+            throw new IllegalArgumentException("Token at " + position + " overlaps the previous one");
+        }
+        try {
+            types.writeByte(type.ordinal());
+            if (deltaEncoded) {
+                positions.writeVarLong(position - previousEnd);
+                lengths.writeVarLong(length);
+                previousEnd = position + length;
+            } else {
+                positions.writeLong(position);
+                lengths.writeInt(length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        count++;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes the header, appends the three columns and moves the result onto the target file.
+     * Call it once every token has been written; the writer is closed afterwards.
+     */
+    public void finish() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        closed = true;
+        Path assembled = null;
+        try {
+            types.flush();
+            positions.flush();
+            lengths.flush();
+
+            assembled = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".part");
+            try (FileChannel out = FileChannel.open(assembled, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC)
+                        .put(VERSION)
+                        .put(deltaEncoded ? DELTA_VARINT : 0)
+                        .putShort((short) 0)
+                        .putLong(count)
+                        .putLong(types.size)
+                        .putLong(positions.size)
+                        .putLong(lengths.size)
+                        .flip();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                types.transferTo(out);
+                positions.transferTo(out);
+                lengths.transferTo(out);
+                out.force(false);
+            }
+            Files.move(assembled, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            assembled = null;
+        } finally {
+            if (assembled != null) {
+                Files.deleteIfExists(assembled);
+            }
+            discard(types);
+            discard(positions);
+            discard(lengths);
+        }
+    }
+
+    /**
+     * Deletes the temporary column files. Without a preceding {@link #finish()} nothing is
+     * written to the target.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        discard(types);
+        discard(positions);
+        discard(lengths);
+    }
+
+    private static void discard(Column column) throws IOException {
+        if (column != null) {
+            column.delete();
+        }
+    }
+
+    /**
+     * One column, buffered and streamed to its own temporary file.
+     */
+    private static final class Column {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(COLUMN_BUFFER_SIZE);
+        private long size;
+
+        Column(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        void writeByte(int b) throws IOException {
+            ensure(1);
+            buffer.put((byte) b);
+        }
+
+        void writeInt(int v) throws IOException {
+            ensure(4);
+            buffer.putInt(v);
+        }
+
+        void writeLong(long v) throws IOException {
+            ensure(8);
+            buffer.putLong(v);
+        }
+
+        /**
+         * 🔢 Unsigned LEB128: 7 bits per byte, high bit set while more bytes follow.
+         */
+        void writeVarLong(long v) throws IOException {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buffer.put((byte) (v | 0x80));
+                v >>>= 7;
+            }
+            buffer.put((byte) v);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void transferTo(FileChannel target) throws IOException {
+            long done = 0;
+            while (done < size) {
+                done += channel.transferTo(done, size - done, target);
+            }
+        }
+
+        void delete() throws IOException {
+            try {
+                channel.close();
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+
+        private void ensure(int extra) throws IOException {
+            if (buffer.remaining() < extra) {
+                flush();
+            }
+        }
+    }
+}
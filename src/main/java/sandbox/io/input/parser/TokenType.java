@@ -0,0 +1,11 @@
+package sandbox.io.input.parser;
+
+/**
+ * What kind of run of bytes a token is.
+ */
+public enum TokenType {
+    WORD,    // only letters
+    NUMBER,  // only digits
+    MIXED,   // letters and digits
+    SYMBOL   // anything else that isn't whitespace, possibly a multi-byte operator
+}
@@ -0,0 +1,14 @@
+package sandbox.io.input.parser;
+
+/**
+ * Receives tokens from a {@link ByteTokenizer} as ranges of the buffer being scanned.
+ * <p>
+ * No String is created for a token: {@code source[offset .. offset + length)} is only valid
+ * during the call, because the tokenizer reuses the buffer. {@code position} is the
+ * token's byte offset from the start of the whole input.
+ */
+@FunctionalInterface
+public interface TokenVisitor {
+
+    void token(TokenType type, byte[] source, int offset, int length, long position);
+}
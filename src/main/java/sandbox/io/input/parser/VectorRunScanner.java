@@ -0,0 +1,85 @@
+package sandbox.io.input.parser;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+ * ✅ Explanation:
+    Classifies a whole vector of bytes (16-64 lanes, whatever the CPU prefers) per step:
+    digit  = '0' <= b <= '9'
+    letter = 'a' <= (b | 0x20) <= 'z'
+    The first lane that is neither ends the run, and the lanes before it say whether the run
+    held letters, digits or both. Non-ASCII bytes (negative as Java bytes) depend on the
+    encoding, so a vector containing one hands the rest of the run to the scalar table.
+    Short runs never reach the vector loop: the first few bytes are checked one by one.
+    Only loaded when the jdk.incubator.vector module is present - see RunScanners.
+* */
+final class VectorRunScanner implements RunScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int SCALAR_PREFIX = 8; // most runs are shorter than a vector
+
+    @Override
+    public long scanWord(byte[] source, int from, int to, byte[] classes) {
+        long prefix = ScalarRunScanner.scanWord(source, from, Math.min(to, from + SCALAR_PREFIX), classes, 0);
+        int i = RunScanner.endOf(prefix);
+        int kinds = RunScanner.kindsOf(prefix);
+        if (i < from + SCALAR_PREFIX) {
+            return prefix; // the run ended (or the range did) within the prefix
+        }
+        while (i + LANES <= to) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, source, i);
+            if (bytes.compare(VectorOperators.LT, (byte) 0).anyTrue()) {
+                break;
+            }
+            VectorMask<Byte> digit = bytes.compare(VectorOperators.GE, (byte) '0')
+                    .and(bytes.compare(VectorOperators.LE, (byte) '9'));
+            ByteVector lower = bytes.or((byte) 0x20);
+            VectorMask<Byte> letter = lower.compare(VectorOperators.GE, (byte) 'a')
+                    .and(lower.compare(VectorOperators.LE, (byte) 'z'));
+
+            // 🧮 One bit per lane (species have at most 64 lanes); trailing ones are the run
+            long digits = digit.toLong();
+            long letters = letter.toLong();
+            int run = Long.numberOfTrailingZeros(~(digits | letters));
+            long inRun = run >= 64 ? -1L : (1L << run) - 1;
+            if ((digits & inRun) != 0) {
+                kinds |= ByteTokenizer.DIGIT;
+            }
+            if ((letters & inRun) != 0) {
+                kinds |= ByteTokenizer.LETTER;
+            }
+            run = Math.min(run, LANES);
+            i += run;
+            if (run < LANES) {
+                return RunScanner.packWord(i, kinds);
+            }
+        }
+        return ScalarRunScanner.scanWord(source, i, to, classes, kinds);
+    }
+
+    @Override
+    public int skipWhitespace(byte[] source, int from, int to, byte[] classes) {
+        int i = ScalarRunScanner.skipWhitespaceFrom(source, from, Math.min(to, from + SCALAR_PREFIX), classes);
+        if (i < from + SCALAR_PREFIX) {
+            return i;
+        }
+        while (i + LANES <= to) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, source, i);
+            // Character.isWhitespace in Latin-1: '\t'..'\r', 0x1C..0x1F and ' '
+            VectorMask<Byte> space = bytes.compare(VectorOperators.GE, (byte) '\t')
+                    .and(bytes.compare(VectorOperators.LE, (byte) '\r'))
+                    .or(bytes.compare(VectorOperators.GE, (byte) 0x1C)
+                            .and(bytes.compare(VectorOperators.LE, (byte) ' ')));
+            int run = Math.min(Long.numberOfTrailingZeros(~space.toLong()), LANES);
+            i += run;
+            if (run < LANES) {
+                return i;
+            }
+        }
+        return ScalarRunScanner.skipWhitespaceFrom(source, i, to, classes);
+    }
+}
@@ -1,72 +1,50 @@
 package sandbox.io.input.parser.advancedtokenparser;
 
-import java.io.*;
-import java.util.Set;
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+import sandbox.io.input.parser.SymbolTable;
+import sandbox.io.input.parser.TokenType;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 public class AdvancedTokenParser {
 
-    private static final Set<String> MULTI_CHAR_SYMBOLS = Set.of(
+    // 🌳 Swap in OperatorTrie.JAVA (or any table) to lex a full grammar: ">>>=", "...", "->"
+    static final OperatorTrie OPERATORS = OperatorTrie.of(
             "==", "!=", ">=", "<=", "++", "--", "&&", "||", "::"
     );
 
-    public static void main(String[] args) {
-        try (PushbackInputStream input = new PushbackInputStream(
-                new BufferedInputStream(
-                        new FileInputStream("data/input.txt")), 2)) { // buffer size 2 for pushback
-
-            ByteArrayOutputStream tokenBuffer = new ByteArrayOutputStream();
-            int data;
-            while ((data = input.read()) != -1) {
-                char ch = (char) data;
-
-                if (Character.isLetterOrDigit(ch)) {
-                    tokenBuffer.write(ch);
-                } else {
-                    if (tokenBuffer.size() > 0) {
-                        classifyAndPrint(tokenBuffer.toString());
-                        tokenBuffer.reset();
-                    }
-
-                    if (!Character.isWhitespace(ch)) {
-                        handleSymbol(input, ch);
-                    }
-                }
-            }
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(OPERATORS, ByteTokenizer.Encoding.UTF_8);
 
-            // Handle leftover token at end of file
-            if (tokenBuffer.size() > 0) {
-                classifyAndPrint(tokenBuffer.toString());
-            }
+    public static void main(String[] args) {
+        try (InputStream input = new FileInputStream("data/input.txt")) {
+            parse(input, System.out::println);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    private static void handleSymbol(PushbackInputStream input, char first) throws IOException {
-        int secondData = input.read();
-        if (secondData != -1) {
-            char second = (char) secondData;
-            String combined = "" + first + second;
-
-            if (MULTI_CHAR_SYMBOLS.contains(combined)) {
-                System.out.println("Symbol: " + combined);
-            } else {
-                input.unread(second); // Push back second character
-                System.out.println("Symbol: " + first);
-            }
-        } else {
-            System.out.println("Symbol: " + first);
-        }
+    /**
+     * Tokenizes {@code input} and hands every line main() prints to {@code out} instead.
+     */
+    public static void parse(InputStream input, Consumer<String> out) throws IOException {
+        // 🏷️ Each distinct token becomes a String once per parse; repeats are found by their bytes.
+        // The table is not thread-safe and never shrinks, so it lives only as long as this call.
+        SymbolTable symbols = new SymbolTable(StandardCharsets.UTF_8);
+        TOKENIZER.tokenize(input, (type, source, offset, length, position) ->
+                out.accept(classify(type, symbols.name(symbols.intern(source, offset, length)))));
     }
 
-    private static void classifyAndPrint(String token) {
-        if (token.chars().allMatch(Character::isDigit)) {
-            System.out.println("Number: " + token);
-        } else if (token.chars().allMatch(Character::isLetter)) {
-            System.out.println("Word: " + token);
-        } else {
-            System.out.println("Mixed/Unknown: " + token);
-        }
+    private static String classify(TokenType type, String token) {
+        return switch (type) {
+            case NUMBER -> "Number: " + token;
+            case WORD -> "Word: " + token;
+            case MIXED -> "Mixed/Unknown: " + token;
+            case SYMBOL -> "Symbol: " + token;
+        };
     }
 }
-
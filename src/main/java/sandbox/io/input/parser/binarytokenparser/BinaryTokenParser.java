@@ -0,0 +1,66 @@
+package sandbox.io.input.parser.binarytokenparser;
+
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+import sandbox.io.input.parser.TokenStreamReader;
+import sandbox.io.input.parser.TokenStreamWriter;
+import sandbox.io.input.parser.TokenType;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * ✅ Explanation:
+    Lexes data/input.txt once and saves the tokens as a binary stream (fixed-width and
+    delta/varint), then reads the stream back - no text parsing, no println per token.
+* */
+public class BinaryTokenParser {
+
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(
+            OperatorTrie.of("==", "!=", ">=", "<=", "++", "--", "&&", "||", "::"), ByteTokenizer.Encoding.UTF_8);
+
+    public static void main(String[] args) {
+        Path input = Path.of("data/input.txt");
+        Path fixed = Path.of("data/input.tokens");
+        Path compact = Path.of("data/input.delta.tokens");
+
+        try {
+            write(input, fixed, false);
+            write(input, compact, true);
+            System.out.println("Text:        " + Files.size(input) + " bytes");
+            System.out.println("Fixed-width: " + Files.size(fixed) + " bytes");
+            System.out.println("Delta:       " + Files.size(compact) + " bytes");
+
+            try (TokenStreamReader reader = new TokenStreamReader(compact)) {
+                long[] counts = new long[TokenType.values().length];
+                reader.forEach((type, position, length) -> counts[type.ordinal()]++);
+                System.out.println("Read back " + reader.count() + " tokens:");
+                for (TokenType type : TokenType.values()) {
+                    System.out.println("  " + type + ": " + counts[type.ordinal()]);
+                }
+            }
+
+            // 🎯 Fixed-width streams can jump straight to any token
+            try (TokenStreamReader reader = new TokenStreamReader(fixed)) {
+                if (reader.count() > 0) {
+                    long last = reader.count() - 1;
+                    System.out.println("Last token: " + reader.typeAt(last) + " at byte " + reader.positionAt(last)
+                            + ", length " + reader.lengthAt(last));
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void write(Path input, Path output, boolean deltaEncoded) throws IOException {
+        try (InputStream in = new FileInputStream(input.toFile());
+             TokenStreamWriter writer = new TokenStreamWriter(output, deltaEncoded)) {
+            TOKENIZER.tokenize(in, writer);
+            writer.finish(); // ✅ Only a complete stream replaces the output file
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package sandbox.io.input.parser.incrementaltokenparser;
+
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.IncrementalTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * ✅ Explanation:
+    Tokenizes data/input.txt once, then edits the second line and re-lexes only around the edit.
+* */
+public class IncrementalTokenParser {
+
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(
+            OperatorTrie.of("==", "!=", ">=", "<=", "++", "--", "&&", "||", "::"), ByteTokenizer.Encoding.UTF_8);
+
+    public static void main(String[] args) {
+        try {
+            IncrementalTokenizer document = new IncrementalTokenizer(TOKENIZER, Files.readAllBytes(Path.of("data/input.txt")));
+            System.out.println("Tokens: " + document.tokenCount() + ", lines: " + document.lineCount());
+
+            // ✏️ Insert a few tokens at the start of line 2 (or the end of a one-line file)
+            int offset = document.lineCount() > 1 ? document.lineStart(1) : document.length();
+            IncrementalTokenizer.Splice splice = document.applyEdit(offset, 0,
+                    "x != y && z ".getBytes(StandardCharsets.UTF_8));
+            System.out.println("After insert: " + splice);
+
+            // 🔙 And undo it again
+            splice = document.applyEdit(offset, "x != y && z ".length(), new byte[0]);
+            System.out.println("After undo:   " + splice);
+            System.out.println("Tokens: " + document.tokenCount() + ", lines: " + document.lineCount());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
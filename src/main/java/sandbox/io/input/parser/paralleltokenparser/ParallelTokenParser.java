@@ -0,0 +1,81 @@
+package sandbox.io.input.parser.paralleltokenparser;
+
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.ParallelTokenizer;
+import sandbox.io.input.parser.TokenType;
+import sandbox.io.input.parser.TokenVisitor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class ParallelTokenParser {
+
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(
+            "==", "!=", ">=", "<=", "++", "--", "&&", "||", "::"
+    );
+
+    public static void main(String[] args) {
+        Path file = Path.of(args.length > 0 ? args[0] : "data/input.txt");
+        ParallelTokenizer parallel = new ParallelTokenizer(TOKENIZER);
+
+        try {
+            // 🧵 One thread, one stream
+            long start = System.nanoTime();
+            TypeCounts sequential = new TypeCounts();
+            try (InputStream input = new FileInputStream(file.toFile())) {
+                TOKENIZER.tokenize(input, sequential);
+            }
+            long sequentialNanos = System.nanoTime() - start;
+
+            // 🚀 Mapped segments on every core, merged in file order
+            start = System.nanoTime();
+            TypeCounts merged = parallel.aggregate(file, TypeCounts::new, TypeCounts::merge);
+            long parallelNanos = System.nanoTime() - start;
+
+            System.out.println("Sequential: " + sequential + " in " + sequentialNanos / 1_000_000 + " ms");
+            System.out.println("Parallel:   " + merged + " in " + parallelNanos / 1_000_000 + " ms");
+            System.out.println("Same result: " + sequential.equals(merged));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    static final class TypeCounts implements TokenVisitor {
+
+        private final long[] counts = new long[TokenType.values().length];
+
+        @Override
+        public void token(TokenType type, byte[] source, int offset, int length, long position) {
+            counts[type.ordinal()]++;
+        }
+
+        TypeCounts merge(TypeCounts other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TypeCounts other && Arrays.equals(counts, other.counts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(counts);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (TokenType type : TokenType.values()) {
+                sb.append(type).append('=').append(counts[type.ordinal()]).append(' ');
+            }
+            return sb.toString().trim();
+        }
+    }
+}
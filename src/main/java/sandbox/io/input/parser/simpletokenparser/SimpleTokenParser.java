@@ -1,38 +1,32 @@
 package sandbox.io.input.parser.simpletokenparser;
 
-import java.io.*;
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 public class SimpleTokenParser {
-    public static void main(String[] args) {
-        try (PushbackInputStream input = new PushbackInputStream(
-                new BufferedInputStream(
-                        new FileInputStream("data/input.txt")))) {
 
-            ByteArrayOutputStream tokenBuffer = new ByteArrayOutputStream();
-            int data;
-            while ((data = input.read()) != -1) {
-                char ch = (char) data;
-                if (Character.isLetterOrDigit(ch)) {
-                    tokenBuffer.write(ch);
-                } else {
-                    if (tokenBuffer.size() > 0) {
-                        System.out.println(tokenBuffer.toString());
-                        tokenBuffer.reset();
-                    }
-                    if (!Character.isWhitespace(ch)) {
-                        // Push back separator to treat as its own token
-                        input.unread(ch);
-                        data = input.read(); // Read again
-                        System.out.println((char) data);
-                    }
-                }
-            }
-            if (tokenBuffer.size() > 0) {
-                System.out.println(tokenBuffer.toString());
-            }
+    // Every separator is its own token, no multi-byte operators; input is UTF-8
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(OperatorTrie.NONE, ByteTokenizer.Encoding.UTF_8);
+
+    public static void main(String[] args) {
+        try (InputStream input = new FileInputStream("data/input.txt")) {
+            parse(input, System.out::println);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-}
 
+    /**
+     * Tokenizes {@code input} and hands every line main() prints to {@code out} instead.
+     */
+    public static void parse(InputStream input, Consumer<String> out) throws IOException {
+        TOKENIZER.tokenize(input, (type, source, offset, length, position) ->
+                out.accept(new String(source, offset, length, StandardCharsets.UTF_8)));
+    }
+}
@@ -1,48 +1,45 @@
 package sandbox.io.input.parser.smarttokenparser;
 
-import java.io.*;
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+import sandbox.io.input.parser.SymbolTable;
+import sandbox.io.input.parser.TokenType;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 public class SmarterTokenParser {
-    public static void main(String[] args) {
-        try (PushbackInputStream input = new PushbackInputStream(
-                new BufferedInputStream(
-                        new FileInputStream("data/input.txt")))) {
 
-            ByteArrayOutputStream tokenBuffer = new ByteArrayOutputStream();
-            int data;
-            while ((data = input.read()) != -1) {
-                char ch = (char) data;
-                if (Character.isLetterOrDigit(ch)) {
-                    tokenBuffer.write(ch);
-                } else {
-                    if (tokenBuffer.size() > 0) {
-                        classifyAndPrint(tokenBuffer.toString());
-                        tokenBuffer.reset();
-                    }
-                    if (!Character.isWhitespace(ch)) {
-                        // Push back separator
-                        input.unread(ch);
-                        data = input.read(); // Read again
-                        classifyAndPrint(Character.toString((char) data));
-                    }
-                }
-            }
-            if (tokenBuffer.size() > 0) {
-                classifyAndPrint(tokenBuffer.toString());
-            }
+    // Every separator is its own token, no multi-byte operators; input is UTF-8
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(OperatorTrie.NONE, ByteTokenizer.Encoding.UTF_8);
+
+    public static void main(String[] args) {
+        try (InputStream input = new FileInputStream("data/input.txt")) {
+            parse(input, System.out::println);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    private static void classifyAndPrint(String token) {
-        if (token.chars().allMatch(Character::isDigit)) {
-            System.out.println("Number: " + token);
-        } else if (token.chars().allMatch(Character::isLetter)) {
-            System.out.println("Word: " + token);
-        } else {
-            System.out.println("Symbol: " + token);
-        }
+    /**
+     * Tokenizes {@code input} and hands every line main() prints to {@code out} instead.
+     */
+    public static void parse(InputStream input, Consumer<String> out) throws IOException {
+        // 🏷️ Each distinct token becomes a String once per parse; repeats are found by their bytes.
+        // The table is not thread-safe and never shrinks, so it lives only as long as this call.
+        SymbolTable symbols = new SymbolTable(StandardCharsets.UTF_8);
+        TOKENIZER.tokenize(input, (type, source, offset, length, position) ->
+                out.accept(classify(type, symbols.name(symbols.intern(source, offset, length)))));
     }
-}
 
+    private static String classify(TokenType type, String token) {
+        return switch (type) {
+            case NUMBER -> "Number: " + token;
+            case WORD -> "Word: " + token;
+            default -> "Symbol: " + token; // mixed letters/digits land here too
+        };
+    }
+}
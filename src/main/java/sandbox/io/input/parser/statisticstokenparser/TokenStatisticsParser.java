@@ -0,0 +1,48 @@
+package sandbox.io.input.parser.statisticstokenparser;
+
+import sandbox.io.input.parser.ByteTokenizer;
+import sandbox.io.input.parser.OperatorTrie;
+import sandbox.io.input.parser.ParallelTokenizer;
+import sandbox.io.input.parser.TokenStatistics;
+import sandbox.io.input.parser.TokenType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/*
+ * ✅ Explanation:
+    Counts tokens of data/input.txt (or the file given) on all cores and prints the most
+    frequent words, numbers and symbols plus a histogram of number lengths.
+* */
+public class TokenStatisticsParser {
+
+    static final ByteTokenizer TOKENIZER = new ByteTokenizer(
+            OperatorTrie.of("==", "!=", ">=", "<=", "++", "--", "&&", "||", "::"), ByteTokenizer.Encoding.UTF_8);
+
+    private static final int TOP = 10;
+
+    public static void main(String[] args) {
+        Path file = Path.of(args.length > 0 ? args[0] : "data/input.txt");
+        try {
+            TokenStatistics stats = new ParallelTokenizer(TOKENIZER).aggregate(file,
+                    () -> new TokenStatistics(StandardCharsets.UTF_8), TokenStatistics::merge);
+
+            for (TokenType type : TokenType.values()) {
+                System.out.println(type + ": " + stats.total(type) + " tokens, " + stats.distinct(type) + " distinct");
+                stats.top(type, TOP).forEach(entry ->
+                        System.out.println("  " + entry.count() + "\t" + entry.token()));
+            }
+
+            long[] lengths = stats.numberLengthHistogram();
+            System.out.println("Number lengths:");
+            for (int length = 1; length < lengths.length; length++) {
+                if (lengths[length] > 0) {
+                    System.out.println("  " + length + " digits: " + lengths[length]);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package sandbox.io.output.objectoutputstream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * ✅ Explanation:
+    Company and Employee are annotated with @BinaryCodec, so javac generates CompanyCodec and
+    EmployeeCodec next to them. This demo writes the same company with ObjectOutputStream and with
+    the generated codec and compares size and time. Both skip the transient password.
+* */
+public class BinaryCodecDemo {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee("Employee " + i, 1000 + i, "secret" + i));
+        }
+        Company company = new Company("OpenAI Corp", employees);
+
+        try {
+            byte[] javaBytes = null;
+            byte[] codecBytes = null;
+            long javaNanos = Long.MAX_VALUE;
+            long codecNanos = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                javaBytes = javaSerialize(company);
+                javaDeserialize(javaBytes);
+                javaNanos = Math.min(javaNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                codecBytes = CompanyCodec.encode(company);
+                CompanyCodec.decode(codecBytes);
+                codecNanos = Math.min(codecNanos, System.nanoTime() - start);
+            }
+
+            System.out.printf("ObjectOutputStream: %,d bytes, %.1f ms round trip%n", javaBytes.length, javaNanos / 1e6);
+            System.out.printf("CompanyCodec:       %,d bytes, %.1f ms round trip%n", codecBytes.length, codecNanos / 1e6);
+
+            Company small = new Company("OpenAI Corp", List.of(employees.get(0), employees.get(1)));
+            System.out.println("🔓 Decoded: " + CompanyCodec.decode(CompanyCodec.encode(small)));
+        } catch (IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static byte[] javaSerialize(Company company) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(company);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Company javaDeserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Company) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package sandbox.io.output.objectoutputstream;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/*
+ * ✅ Explanation:
+    An ObjectOutputStream remembers every object it has written (its handle table) so it can
+    write back-references instead of duplicates. Streaming millions of objects through one
+    stream therefore keeps all of them reachable until close() - memory grows without bound.
+
+    This wrapper calls reset() for you once a ResetPolicy threshold is crossed:
+      - top-level objects written since the last reset
+      - bytes written since the last reset - the best cheap proxy for how much the table keeps
+        alive, since every retained object was serialized into those bytes
+      - estimated handle table slots (object handles * HANDLE_SLOT_BYTES)
+    The object handle count comes from replaceObject(), which ObjectOutputStream calls once for
+    every new object it writes. Class and ObjectStreamClass handles never go through
+    replaceObject(), so the count is a lower bound on the table's slots, and the slot estimate
+    says nothing about the size of the objects behind them. The reader sees the reset marker
+    and drops its own table too, so both sides run with flat memory. The price: class
+    descriptors are sent again after every reset, and objects shared across a reset arrive as
+    separate copies.
+* */
+public class BoundedObjectOutputStream implements Closeable, Flushable {
+
+    /**
+     * Rough cost of one handle table slot: an int in the hash spine, an int in the chain array,
+     * a reference in the object array, with the arrays up to half empty after doubling.
+     * The objects themselves stay reachable too and usually cost far more; this only counts the slots.
+     */
+    public static final long HANDLE_SLOT_BYTES = 24;
+
+    /**
+     * 0 disables a threshold. Resets only happen between top-level writes. {@code maxBytes} bounds
+     * what the handle table keeps alive; {@code maxHandleSlotBytes} only bounds the table's own arrays.
+     */
+    public record ResetPolicy(long maxObjects, long maxBytes, long maxHandleSlotBytes) {
+
+        public static final ResetPolicy DEFAULT = new ResetPolicy(10_000, 16L << 20, 4L << 20);
+
+        public ResetPolicy {
+            if (maxObjects < 0 || maxBytes < 0 || maxHandleSlotBytes < 0) {
+                throw new IllegalArgumentException("Thresholds must be >= 0");
+            }
+        }
+    }
+
+    /**
+     * {@code bytesSinceReset} is the retained-size proxy; {@code objectHandles} and the slot byte
+     * figures leave out class descriptor handles and the objects themselves.
+     */
+    public record Metrics(long objectsWritten, long bytesWritten, long resets, long bytesSinceReset,
+                          long objectHandles, long handleSlotBytes, long peakHandleSlotBytes) {
+    }
+
+    private final CountingOutputStream counter;
+    private final HandleCountingStream out;
+    private final ResetPolicy policy;
+    private final Consumer<Metrics> resetListener;
+
+    private long objectsWritten;
+    private long resets;
+    private long objectsAtReset;
+    private long bytesAtReset;
+    private long peakHandles;
+
+    public BoundedObjectOutputStream(OutputStream target, ResetPolicy policy) throws IOException {
+        this(target, policy, metrics -> { });
+    }
+
+    /**
+     * @param resetListener called on every automatic reset with the metrics from just before it
+     */
+    public BoundedObjectOutputStream(OutputStream target, ResetPolicy policy, Consumer<Metrics> resetListener)
+            throws IOException {
+        this.counter = new CountingOutputStream(target);
+        this.out = new HandleCountingStream(counter);
+        this.policy = policy;
+        this.resetListener = resetListener;
+    }
+
+    public void writeObject(Object obj) throws IOException {
+        out.writeObject(obj);
+        afterWrite();
+    }
+
+    public void writeUnshared(Object obj) throws IOException {
+        out.writeUnshared(obj);
+        afterWrite();
+    }
+
+    /** Resets now, regardless of the policy. */
+    public void reset() throws IOException {
+        out.reset();
+        resets++;
+        objectsAtReset = objectsWritten;
+        bytesAtReset = counter.count;
+        out.handles = 0;
+    }
+
+    public Metrics metrics() {
+        long peak = Math.max(peakHandles, out.handles);
+        return new Metrics(objectsWritten, counter.count, resets, counter.count - bytesAtReset,
+                out.handles, out.handles * HANDLE_SLOT_BYTES, peak * HANDLE_SLOT_BYTES);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void afterWrite() throws IOException {
+        objectsWritten++;
+        peakHandles = Math.max(peakHandles, out.handles);
+        if (exceeded(objectsWritten - objectsAtReset, policy.maxObjects())
+                || exceeded(counter.count - bytesAtReset, policy.maxBytes())
+                || exceeded(out.handles * HANDLE_SLOT_BYTES, policy.maxHandleSlotBytes())) {
+            Metrics beforeReset = metrics();
+            reset();
+            resetListener.accept(beforeReset);
+        }
+    }
+
+    private static boolean exceeded(long value, long limit) {
+        return limit > 0 && value >= limit;
+    }
+
+    private static final class HandleCountingStream extends ObjectOutputStream {
+
+        long handles;
+
+        HandleCountingStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            handles++; // once per newly written object; class and descriptor handles don't come through here
+            return obj;
+        }
+    }
+
+    // Bytes are counted as the ObjectOutputStream hands them down (it buffers up to 1 KB itself)
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package sandbox.io.output.objectoutputstream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/*
+ * ✅ Explanation:
+    Streams a million employees twice to a stream that discards the bytes:
+    once through a plain ObjectOutputStream (every employee stays reachable through its
+    handle table) and once through BoundedObjectOutputStream (reset every 10,000 objects).
+    Then it writes them to a file with automatic resets and reads them back.
+* */
+public class BoundedSerializationDemo {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    public static void main(String[] args) {
+        try {
+            try (ObjectOutputStream plain = new ObjectOutputStream(OutputStream.nullOutputStream())) {
+                for (int i = 0; i < EMPLOYEES; i++) {
+                    plain.writeObject(new Employee("Employee " + i, i, "secret"));
+                }
+                System.out.printf("🐘 Plain ObjectOutputStream, heap in use before close: %,d MB%n", usedHeapMb());
+            }
+
+            try (BoundedObjectOutputStream bounded = new BoundedObjectOutputStream(
+                    OutputStream.nullOutputStream(), BoundedObjectOutputStream.ResetPolicy.DEFAULT)) {
+                for (int i = 0; i < EMPLOYEES; i++) {
+                    bounded.writeObject(new Employee("Employee " + i, i, "secret"));
+                }
+                System.out.printf("🪶 BoundedObjectOutputStream, heap in use before close: %,d MB%n", usedHeapMb());
+                System.out.println("📊 " + bounded.metrics());
+            }
+
+            String filename = "employees.ser";
+            BoundedObjectOutputStream.ResetPolicy policy = new BoundedObjectOutputStream.ResetPolicy(0, 1L << 20, 0);
+            try (BoundedObjectOutputStream out = new BoundedObjectOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(filename)), policy,
+                    metrics -> System.out.println("🔄 Reset, " + metrics.bytesWritten() + " bytes written so far"))) {
+                for (int i = 0; i < 100_000; i++) {
+                    out.writeObject(new Employee("Employee " + i, i, "secret"));
+                }
+            }
+
+            int read = 0;
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+                while (true) {
+                    in.readObject();
+                    read++;
+                }
+            } catch (EOFException endOfStream) {
+                System.out.println("✅ Read back " + read + " employees");
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static long usedHeapMb() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+    }
+}
@@ -1,8 +1,11 @@
 package sandbox.io.output.objectoutputstream;
 
+import sandbox.io.codec.BinaryCodec;
+
 import java.io.Serializable;
 import java.util.List;
 
+@BinaryCodec
 public class Company implements Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -14,6 +17,14 @@ public class Company implements Serializable {
         this.employees = employees;
     }
 
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
     @Override
     public String toString() {
         return "Company{companyName='" + companyName + "', employees=" + employees + "}";
@@ -1,7 +1,10 @@
 package sandbox.io.output.objectoutputstream;
 
+import sandbox.io.codec.BinaryCodec;
+
 import java.io.Serializable;
 
+@BinaryCodec
 public class Employee implements Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -15,6 +18,14 @@ public class Employee implements Serializable {
         this.password = password;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
     @Override
     public String toString() {
         return "Employee{name='" + name + "', id=" + id + ", password='" + password + "'}";
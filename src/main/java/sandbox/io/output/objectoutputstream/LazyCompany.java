@@ -0,0 +1,217 @@
+package sandbox.io.output.objectoutputstream;
+
+import sandbox.io.codec.ByteBufferDataInput;
+import sandbox.io.codec.CodecSupport;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/*
+ * ✅ Explanation:
+    CompanyDeserializer (and CompanyCodec) rebuild every Employee before you can even read the
+    company name. LazyCompany stores the employees behind an offset table instead:
+
+        int    magic "LZCO"
+        long   CompanyCodec.SCHEMA_VERSION
+        long   EmployeeCodec.SCHEMA_VERSION
+        string companyName              (CodecSupport.writeString)
+        int    employee count
+        int[]  count + 1 offsets into the entries (the last one is their total length)
+        entries, each a presence flag + EmployeeCodec fields
+
+    open() maps the file and reads only the header. employee(i) decodes one entry from its
+    offset, so the cost follows what you touch, not how big the company is. Recently decoded
+    employees are kept in a small LRU so repeated access doesn't decode again.
+    A null employee list is stored as an empty one. Not thread-safe (the LRU isn't).
+* */
+public final class LazyCompany {
+
+    static final int MAGIC = 0x4C5A434F; // "LZCO"
+
+    private final ByteBuffer buffer;
+    private final String companyName;
+    private final int count;
+    private final int offsetsAt;
+    private final int entriesAt;
+    private final Map<Integer, Employee> cache;
+
+    private LazyCompany(ByteBuffer buffer, int cacheSize) throws IOException {
+        this.buffer = buffer;
+        ByteBuffer header = buffer.duplicate();
+        ByteBufferDataInput in = new ByteBufferDataInput(header);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a lazy company file");
+        }
+        CodecSupport.checkVersion(in.readLong(), CompanyCodec.SCHEMA_VERSION, Company.class);
+        CodecSupport.checkVersion(in.readLong(), EmployeeCodec.SCHEMA_VERSION, Employee.class);
+        this.companyName = CodecSupport.readString(in);
+        this.count = in.readInt();
+        this.offsetsAt = header.position();
+        if (count < 0 || offsetsAt + (count + 1L) * Integer.BYTES > buffer.limit()) {
+            throw new IOException("Lazy company file is truncated");
+        }
+        this.entriesAt = (int) (offsetsAt + (count + 1L) * Integer.BYTES);
+        if (offset(count) < 0 || entriesAt + (long) offset(count) > buffer.limit()) {
+            throw new IOException("Lazy company file is truncated");
+        }
+        this.cache = cacheSize <= 0 ? null : new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Employee> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Maps {@code file} and reads its header; employees are decoded later, on access.
+     *
+     * @param cacheSize how many decoded employees to keep, 0 for none
+     */
+    public static LazyCompany open(Path file, int cacheSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Lazy company files are limited to 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new LazyCompany(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), cacheSize);
+        }
+    }
+
+    public static void write(Company company, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(company, channel);
+        }
+    }
+
+    public String companyName() {
+        return companyName;
+    }
+
+    public int employeeCount() {
+        return count;
+    }
+
+    public Employee employee(int index) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("No employee " + index + " in a company of " + count);
+        }
+        if (cache != null) {
+            Employee cached = cache.get(index);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int from = offset(index);
+        int to = offset(index + 1);
+        if (from < 0 || from > to || to > offset(count)) {
+            throw new IOException("Lazy company file is corrupt");
+        }
+        ByteBufferDataInput in = new ByteBufferDataInput(buffer.slice(entriesAt + from, to - from));
+        Employee employee = in.readBoolean() ? EmployeeCodec.readFields(in) : null;
+        if (cache != null && employee != null) {
+            cache.put(index, employee);
+        }
+        return employee;
+    }
+
+    /** A read-only list view that decodes employees as they are accessed. */
+    public List<Employee> employees() {
+        return new EmployeeList();
+    }
+
+    /** Decodes everything into a plain Company. */
+    public Company toCompany() throws IOException {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i));
+        }
+        return new Company(companyName, employees);
+    }
+
+    private int offset(int index) {
+        return buffer.getInt(offsetsAt + index * Integer.BYTES);
+    }
+
+    private static void write(Company company, FileChannel channel) throws IOException {
+        List<Employee> employees = company.getEmployees() == null ? List.of() : company.getEmployees();
+        int count = employees.size();
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeLong(CompanyCodec.SCHEMA_VERSION);
+        header.writeLong(EmployeeCodec.SCHEMA_VERSION);
+        CodecSupport.writeString(header, company.getCompanyName());
+        header.writeInt(count);
+        int offsetsAt = headerBytes.size();
+        long entriesAt = offsetsAt + (count + 1L) * Integer.BYTES;
+        if (entriesAt > Integer.MAX_VALUE) {
+            throw new IOException("Too many employees for a lazy company file: " + count);
+        }
+
+        // Entries are streamed after the space reserved for the offset table, which is filled in last
+        ByteBuffer offsets = ByteBuffer.allocate((int) (entriesAt - offsetsAt));
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        DataOutputStream entry = new DataOutputStream(entryBytes);
+        channel.position(entriesAt);
+        OutputStream entries = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+        long written = 0;
+        for (Employee employee : employees) {
+            offsets.putInt((int) written);
+            entryBytes.reset();
+            entry.writeBoolean(employee != null);
+            if (employee != null) {
+                EmployeeCodec.writeFields(employee, entry);
+            }
+            entryBytes.writeTo(entries);
+            written += entryBytes.size();
+            if (entriesAt + written > Integer.MAX_VALUE) {
+                throw new IOException("Lazy company files are limited to 2 GB");
+            }
+        }
+        offsets.putInt((int) written);
+        entries.flush();
+
+        writeFully(channel, ByteBuffer.wrap(headerBytes.toByteArray()), 0);
+        writeFully(channel, offsets.flip(), offsetsAt);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long at) throws IOException {
+        while (source.hasRemaining()) {
+            at += channel.write(source, at);
+        }
+    }
+
+    private final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            try {
+                return employee(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
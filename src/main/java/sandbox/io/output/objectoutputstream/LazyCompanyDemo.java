@@ -0,0 +1,51 @@
+package sandbox.io.output.objectoutputstream;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * ✅ Explanation:
+    Saves a company with a million employees once as a LazyCompany file and once with CompanyCodec.
+    Reading the name and one employee lazily touches a few bytes; the codec has to decode everything.
+* */
+public class LazyCompanyDemo {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    public static void main(String[] args) {
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee("Employee " + i, 1000 + i, "secret" + i));
+        }
+        Company company = new Company("OpenAI Corp", employees);
+
+        Path lazyFile = Path.of("company.lazy");
+        Path codecFile = Path.of("company.bin");
+        try {
+            LazyCompany.write(company, lazyFile);
+            Files.write(codecFile, CompanyCodec.encode(company));
+
+            long start = System.nanoTime();
+            LazyCompany lazy = LazyCompany.open(lazyFile, 128);
+            Employee middle = lazy.employee(EMPLOYEES / 2);
+            System.out.printf("💤 Lazy:  %s, %,d employees, #%d = %s in %.2f ms%n", lazy.companyName(),
+                    lazy.employeeCount(), EMPLOYEES / 2, middle, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            Company eager = CompanyCodec.decode(Files.readAllBytes(codecFile));
+            System.out.printf("🐢 Eager: %s, %,d employees, #%d = %s in %.2f ms%n", eager.getCompanyName(),
+                    eager.getEmployees().size(), EMPLOYEES / 2, eager.getEmployees().get(EMPLOYEES / 2),
+                    (System.nanoTime() - start) / 1e6);
+
+            // The list view decodes on access; the LRU answers repeated lookups
+            List<Employee> view = lazy.employees();
+            System.out.println("👀 First: " + view.get(0) + ", last: " + view.get(view.size() - 1));
+            System.out.println("🔁 Same instance from the LRU: " + (view.get(0) == lazy.employee(0)));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springbackend.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FileDownloadControllerTests {
+
+	private static final byte[] DATA = new byte[100];
+
+	static {
+		for (int i = 0; i < DATA.length; i++) {
+			DATA[i] = (byte) i;
+		}
+	}
+
+	@TempDir
+	Path dir;
+
+	private MockMvc mvc;
+	private String etag;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Files.write(dir.resolve("data.bin"), DATA);
+		mvc = MockMvcBuilders.standaloneSetup(new FileDownloadController(new DataDirectory(dir.toString()))).build();
+		etag = mvc.perform(get("/files/data.bin")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	@Test
+	void wholeFileWithoutRange() throws Exception {
+		mvc.perform(get("/files/data.bin"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+				.andExpect(content().bytes(DATA));
+	}
+
+	@Test
+	void singleRangesArePartialContent() throws Exception {
+		expectRange("bytes=10-19", 10, 19);
+		expectRange("bytes=90-", 90, 99);
+		expectRange("bytes=-5", 95, 99);
+		expectRange("bytes=95-200", 95, 99);
+		expectRange("bytes=0-0", 0, 0);
+	}
+
+	@Test
+	void unsatisfiableRangesAre416() throws Exception {
+		for (String range : new String[] {"bytes=100-", "bytes=200-300"}) {
+			mvc.perform(get("/files/data.bin").header(HttpHeaders.RANGE, range))
+					.andExpect(status().isRequestedRangeNotSatisfiable())
+					.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"))
+					.andExpect(content().bytes(new byte[0]));
+		}
+	}
+
+	@Test
+	void multipleOrMalformedRangesGetTheWholeFile() throws Exception {
+		for (String range : new String[] {"bytes=0-1,5-6", "items=0-1", "bytes=x-y"}) {
+			mvc.perform(get("/files/data.bin").header(HttpHeaders.RANGE, range))
+					.andExpect(status().isOk())
+					.andExpect(content().bytes(DATA));
+		}
+	}
+
+	@Test
+	void ifRangeHonoursTheRangeOnlyWhileTheFileIsUnchanged() throws Exception {
+		mvc.perform(get("/files/data.bin").header(HttpHeaders.RANGE, "bytes=10-19").header(HttpHeaders.IF_RANGE, etag))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().bytes(Arrays.copyOfRange(DATA, 10, 20)));
+
+		mvc.perform(get("/files/data.bin").header(HttpHeaders.RANGE, "bytes=10-19").header(HttpHeaders.IF_RANGE, "W/\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+				.andExpect(content().bytes(DATA));
+	}
+
+	@Test
+	void matchingEtagIsNotModified() throws Exception {
+		mvc.perform(get("/files/data.bin").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void missingAndEscapingNamesAreRejected() throws Exception {
+		mvc.perform(get("/files/missing.bin")).andExpect(status().isNotFound());
+		mvc.perform(get("/files/.hidden")).andExpect(status().isBadRequest());
+		mvc.perform(get("/files/..%2Fdata.bin")).andExpect(status().isBadRequest());
+	}
+
+	private void expectRange(String range, int start, int end) throws Exception {
+		mvc.perform(get("/files/data.bin").header(HttpHeaders.RANGE, range))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/100"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, end - start + 1))
+				.andExpect(content().bytes(Arrays.copyOfRange(DATA, start, end + 1)));
+	}
+}
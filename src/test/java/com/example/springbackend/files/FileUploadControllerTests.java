@@ -0,0 +1,158 @@
+package com.example.springbackend.files;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FileUploadControllerTests {
+
+	private static final int MAX_SIZE = 4_096;
+
+	@TempDir
+	Path dir;
+
+	private FileUploadController controller;
+	private MockMvc mvc;
+
+	@BeforeEach
+	void setUp() {
+		// 🪣 A 1 KB buffer makes every upload here take several reads
+		controller = new FileUploadController(new DataDirectory(dir.toString()),
+				new UploadBufferPool(DataSize.ofKilobytes(1), 2), DataSize.ofBytes(MAX_SIZE));
+		mvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void uploadIsRenamedIntoPlaceWhenComplete() throws Exception {
+		byte[] body = bytes(MAX_SIZE);
+
+		mvc.perform(put("/files/upload.bin").content(body))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.name").value("upload.bin"))
+				.andExpect(jsonPath("$.bytesWritten").value(MAX_SIZE));
+
+		assertThat(dir.resolve("upload.bin")).hasBinaryContent(body);
+		assertThat(files()).containsExactly("upload.bin");
+		assertThat(controller.uploadsInFlight()).isEmpty();
+	}
+
+	@Test
+	void declaredLengthOverTheLimitIsRejectedUpFront() throws Exception {
+		mvc.perform(put("/files/upload.bin").content(bytes(MAX_SIZE + 1)))
+				.andExpect(status().isPayloadTooLarge());
+
+		assertThat(files()).isEmpty();
+	}
+
+	@Test
+	void chunkedBodyOverTheLimitIsRejectedAndCleanedUp() throws Exception {
+		Files.write(dir.resolve("upload.bin"), bytes(10));
+
+		assertThatExceptionOfType(ResponseStatusException.class)
+				.isThrownBy(() -> controller.upload("upload.bin", chunked(InputStream.nullInputStream(), MAX_SIZE * 3)))
+				.satisfies(e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+
+		assertThat(files()).containsExactly("upload.bin");
+		assertThat(dir.resolve("upload.bin")).hasBinaryContent(bytes(10));
+		assertThat(controller.uploadsInFlight()).isEmpty();
+	}
+
+	@Test
+	void failedReadLeavesNoPartFile() throws IOException {
+		InputStream failing = new InputStream() {
+			private int remaining = 2_500;
+
+			@Override
+			public int read() throws IOException {
+				if (remaining == 0) {
+					throw new IOException("Connection reset");
+				}
+				remaining--;
+				return 'x';
+			}
+		};
+
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> controller.upload("upload.bin", chunked(failing, 0)))
+				.withMessage("Connection reset");
+
+		assertThat(files()).isEmpty();
+		assertThat(controller.uploadsInFlight()).isEmpty();
+	}
+
+	private List<String> files() throws IOException {
+		try (Stream<Path> paths = Files.list(dir)) {
+			return paths.map(path -> path.getFileName().toString()).sorted().toList();
+		}
+	}
+
+	/**
+	 * A request without Content-Length, as sent with chunked transfer encoding: {@code body}
+	 * followed by {@code extra} more bytes.
+	 */
+	private static MockHttpServletRequest chunked(InputStream body, int extra) {
+		InputStream content = new SequenceInputStream(body, new ByteArrayInputStream(bytes(extra)));
+		return new MockHttpServletRequest("PUT", "/files/upload.bin") {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+
+			@Override
+			public ServletInputStream getInputStream() {
+				return new ServletInputStream() {
+					@Override
+					public int read() throws IOException {
+						return content.read();
+					}
+
+					@Override
+					public boolean isFinished() {
+						return false;
+					}
+
+					@Override
+					public boolean isReady() {
+						return true;
+					}
+
+					@Override
+					public void setReadListener(ReadListener listener) {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31);
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.springbackend.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class LatencyHistogramTests {
+
+	@Test
+	void everyValueFallsInsideItsBucket() {
+		Random random = new Random(5);
+		for (int i = 0; i < 100_000; i++) {
+			long value = i < 5_000 ? i : random.nextLong(1L << random.nextInt(1, 41));
+			int bucket = LatencyHistogram.bucketOf(value);
+
+			assertThat(LatencyHistogram.lowerBound(bucket)).as("lower bound of %d", value).isLessThanOrEqualTo(value);
+			assertThat(LatencyHistogram.upperBound(bucket)).as("upper bound of %d", value).isGreaterThanOrEqualTo(value);
+		}
+	}
+
+	@Test
+	void bucketsAreContiguousAndWithinTheErrorBound() {
+		assertThat(LatencyHistogram.lowerBound(0)).isZero();
+		for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+			long lower = LatencyHistogram.lowerBound(bucket);
+			long upper = LatencyHistogram.upperBound(bucket);
+
+			assertThat(LatencyHistogram.bucketOf(lower)).isEqualTo(bucket);
+			assertThat(LatencyHistogram.bucketOf(upper)).isEqualTo(bucket);
+			// 📏 Reporting any value in the bucket as its lower bound is off by at most 12.5%
+			assertThat((double) (upper - lower)).as("bucket %d", bucket).isLessThanOrEqualTo(lower * 0.125);
+			if (bucket > 0) {
+				assertThat(lower).isEqualTo(LatencyHistogram.upperBound(bucket - 1) + 1);
+			}
+		}
+	}
+
+	@Test
+	void outOfRangeValuesAreClamped() {
+		assertThat(LatencyHistogram.bucketOf(-1)).isZero();
+		assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+		assertThat(LatencyHistogram.bucketOf(1L << 41)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+	}
+
+	@Test
+	void quantilesComeFromTheRecordedBuckets() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertThat(LatencyHistogram.valueAt(histogram.counts(), 0.5)).isZero();
+
+		for (long micros = 1; micros <= 1_000; micros++) {
+			histogram.record(micros);
+		}
+		long[] counts = histogram.counts();
+
+		assertThat(LatencyHistogram.valueAt(counts, 0)).isEqualTo(1);
+		assertThat(LatencyHistogram.valueAt(counts, 0.5)).isCloseTo(500L, withinPercentage(12.5));
+		assertThat(LatencyHistogram.valueAt(counts, 0.99)).isCloseTo(990L, withinPercentage(12.5));
+		assertThat(LatencyHistogram.valueAt(counts, 1)).isCloseTo(1_000L, withinPercentage(12.5));
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.springbackend.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RuntimeMetricsHistoryTests {
+
+	@Test
+	void snapshotIsEmptyBeforeTheFirstSample() {
+		RuntimeMetricsHistory history = new RuntimeMetricsHistory(4);
+
+		assertThat(history.latest()).isNull();
+		assertThat(history.snapshot().timestamps()).isEmpty();
+		assertThat(history.snapshot().sequence()).isZero();
+	}
+
+	@Test
+	void snapshotKeepsTheNewestSamplesOldestFirstAfterWrapping() {
+		RuntimeMetricsHistory history = new RuntimeMetricsHistory(4);
+		for (int i = 1; i <= 3; i++) {
+			record(history, i);
+		}
+		assertThat(history.snapshot().timestamps()).containsExactly(1, 2, 3);
+
+		for (int i = 4; i <= 10; i++) {
+			record(history, i);
+		}
+		RuntimeHistory snapshot = history.snapshot();
+
+		assertThat(snapshot.sequence()).isEqualTo(10);
+		assertThat(snapshot.timestamps()).containsExactly(7, 8, 9, 10);
+		assertThat(snapshot.heapUsed()).containsExactly(700, 800, 900, 1000);
+		assertThat(snapshot.threadCount()).containsExactly(7, 8, 9, 10);
+		assertThat(snapshot.processCpuLoad()).containsExactly(0.07, 0.08, 0.09, 0.10);
+		assertThat(snapshot.allocationRateBytesPerSecond()).containsExactly(-7, -8, -9, -10);
+		assertThat(history.latest().timestamp()).isEqualTo(10);
+
+		record(history, 11);
+		record(history, 12);
+		assertThat(history.snapshot().timestamps()).containsExactly(9, 10, 11, 12);
+	}
+
+	@Test
+	void capacityMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RuntimeMetricsHistory(0));
+	}
+
+	/**
+	 * Every column gets a value derived from {@code i}, so a sample torn across slots would show.
+	 */
+	private static void record(RuntimeMetricsHistory history, int i) {
+		history.record(i, i * 100L, i * 200L, i * 300L, i * 400L, i, i * 10L, i, i / 2, -i, i / 100.0, i / 50.0);
+	}
+}
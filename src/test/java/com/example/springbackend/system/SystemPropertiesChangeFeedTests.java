@@ -0,0 +1,112 @@
+package com.example.springbackend.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class SystemPropertiesChangeFeedTests {
+
+	private static final String KEY = "springbackend.test.feed";
+	private static final Pattern EVENT = Pattern.compile("id:(\\S+)\\nevent:(\\S+)\\n");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SystemPropertiesSnapshotCache cache = new SystemPropertiesSnapshotCache(objectMapper,
+			event -> feed().onSnapshotChanged((SystemPropertiesChangedEvent) event));
+	private final SystemPropertiesChangeFeed feed = new SystemPropertiesChangeFeed(cache, 2, 60_000);
+	private final MockMvc mvc = MockMvcBuilders
+			.standaloneSetup(new SystemPropertiesController(cache, feed, objectMapper))
+			.build();
+
+	@AfterEach
+	void close() {
+		feed.close();
+		System.clearProperty(KEY);
+	}
+
+	@Test
+	void reconnectingWithTheLastEventIdResumesAfterIt() throws Exception {
+		MockHttpServletResponse first = subscribe(null);
+		List<String[]> opening = awaitEvents(first, 1);
+		assertThat(opening.get(0)[1]).isEqualTo("snapshot");
+		String epoch = opening.get(0)[0].substring(0, opening.get(0)[0].lastIndexOf('-'));
+
+		System.setProperty(KEY, "1");
+		cache.refresh();
+		System.setProperty(KEY, "2");
+		cache.refresh();
+		List<String[]> events = awaitEvents(first, 3);
+		assertThat(events.get(1)).containsExactly(epoch + "-1", "delta");
+		assertThat(events.get(2)).containsExactly(epoch + "-2", "delta");
+
+		MockHttpServletResponse resumed = subscribe(epoch + "-1");
+		System.setProperty(KEY, "3");
+		cache.refresh();
+		List<String[]> missed = awaitEvents(resumed, 2);
+		assertThat(missed.get(0)).containsExactly(epoch + "-2", "delta");
+		assertThat(missed.get(1)).containsExactly(epoch + "-3", "delta");
+		assertThat(resumed.getContentAsString()).contains("\"" + KEY + "\":\"3\"");
+	}
+
+	@Test
+	void idsFromAnotherEpochOrOutOfHistoryGetASnapshot() throws Exception {
+		String epoch = awaitEvents(subscribe(null), 1).get(0)[0].split("-")[0];
+		for (int i = 1; i <= 3; i++) {
+			System.setProperty(KEY, Integer.toString(i));
+			cache.refresh();
+		}
+
+		for (String lastEventId : List.of("0", "deadbeef-1", epoch + "-", epoch + "-x", epoch + "--1", epoch + "-0")) {
+			List<String[]> events = awaitEvents(subscribe(lastEventId), 1);
+			assertThat(events.get(0)).as(lastEventId).containsExactly(epoch + "-3", "snapshot");
+		}
+		assertThat(awaitEvents(subscribe(epoch + "-1"), 2).get(0)).containsExactly(epoch + "-2", "delta");
+	}
+
+	private SystemPropertiesChangeFeed feed() {
+		return feed;
+	}
+
+	private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+		var builder = get("/v3/properties/changes");
+		if (lastEventId != null) {
+			builder.header("Last-Event-ID", lastEventId);
+		}
+		return mvc.perform(builder)
+				.andExpect(request().asyncStarted())
+				.andReturn()
+				.getResponse();
+	}
+
+	/**
+	 * Waits for the fan-out thread to write at least {@code count} events; returns each event's id and name.
+	 */
+	private static List<String[]> awaitEvents(MockHttpServletResponse response, int count) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		List<String[]> events = new ArrayList<>();
+		while (System.nanoTime() < deadline) {
+			events.clear();
+			Matcher matcher = EVENT.matcher(response.getContentAsString());
+			while (matcher.find()) {
+				events.add(new String[] {matcher.group(1), matcher.group(2)});
+			}
+			if (events.size() >= count) {
+				return events;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("Expected " + count + " events, got " + response.getContentAsString());
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.springbackend.system;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SystemPropertiesControllerTests {
+
+	private static final String KEY = "springbackend.test.controller";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SystemPropertiesSnapshotCache cache = new SystemPropertiesSnapshotCache(objectMapper, event -> {
+	});
+	private final SystemPropertiesChangeFeed feed = new SystemPropertiesChangeFeed(cache, 16, 1_000);
+	private final MockMvc mvc = MockMvcBuilders
+			.standaloneSetup(new SystemPropertiesController(cache, feed, objectMapper))
+			.build();
+
+	@AfterEach
+	void close() {
+		feed.close();
+		System.clearProperty(KEY);
+	}
+
+	@Test
+	void getAllStreamsOneJsonObjectPerLine() throws Exception {
+		System.setProperty(KEY, "line\nbreak \"quoted\"");
+		MvcResult started = mvc.perform(get("/v1/getAll"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		assertThat(body).endsWith("\n");
+		Map<String, String> streamed = new LinkedHashMap<>();
+		for (String line : body.split("\n")) {
+			JsonNode node = objectMapper.readTree(line);
+			assertThat(node.size()).isEqualTo(2);
+			streamed.put(node.get("key").asText(), node.get("value").asText());
+		}
+		assertThat(streamed).containsExactlyEntriesOf(cache.current().properties());
+		assertThat(streamed).containsEntry(KEY, "line\nbreak \"quoted\"");
+	}
+
+	@Test
+	void cborOnlyWhenRankedAboveJson() throws Exception {
+		assertThat(getAll("application/cbor", null).getContentType()).isEqualTo("application/cbor");
+		assertThat(getAll("application/json;q=0.5, application/cbor", null).getContentType()).isEqualTo("application/cbor");
+		assertThat(getAll("application/cbor;q=0.5, application/json", null).getContentType()).isEqualTo("application/json");
+		assertThat(getAll("application/cbor, application/json", null).getContentType()).isEqualTo("application/json");
+		assertThat(getAll("application/*", null).getContentType()).isEqualTo("application/json");
+		assertThat(getAll("*/*", null).getContentType()).isEqualTo("application/json");
+		assertThat(getAll(null, null).getContentType()).isEqualTo("application/json");
+
+		MockHttpServletResponse cbor = getAll("application/cbor", null);
+		assertThat(cbor.getContentAsByteArray()).isEqualTo(cache.current().cbor());
+		assertThat(cbor.getHeader(HttpHeaders.ETAG)).isEqualTo(cache.current().cborEtag());
+		assertThat(String.join(",", cbor.getHeaders(HttpHeaders.VARY))).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+	}
+
+	@Test
+	void gzipUnlessRefused() throws Exception {
+		for (String accepted : new String[] {"gzip", "GZIP", "deflate, gzip;q=0.5", "br, gzip ; q=1"}) {
+			MockHttpServletResponse response = getAll(null, accepted);
+			assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as(accepted).isEqualTo("gzip");
+			assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(cache.current().gzipEtag());
+			try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+				assertThat(in.readAllBytes()).isEqualTo(cache.current().json());
+			}
+		}
+		for (String refused : new String[] {"gzip;q=0", "gzip; q=0.000", "deflate", "gzipped", ""}) {
+			MockHttpServletResponse response = getAll(null, refused);
+			assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as(refused).isNull();
+			assertThat(response.getContentAsByteArray()).isEqualTo(cache.current().json());
+		}
+		// 🧱 CBOR is never gzipped
+		assertThat(getAll("application/cbor", "gzip").getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+	}
+
+	@Test
+	void matchingEtagIsNotModified() throws Exception {
+		SystemPropertiesSnapshot snapshot = cache.current();
+
+		mvc.perform(get("/v2/getAll").header(HttpHeaders.IF_NONE_MATCH, snapshot.etag()))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, snapshot.etag()))
+				.andExpect(content().bytes(new byte[0]));
+		mvc.perform(get("/v2/getAll").header(HttpHeaders.IF_NONE_MATCH, snapshot.cborEtag())
+						.header(HttpHeaders.ACCEPT, "application/cbor"))
+				.andExpect(status().isNotModified());
+
+		// A representation's tag only matches that representation
+		mvc.perform(get("/v2/getAll").header(HttpHeaders.IF_NONE_MATCH, snapshot.gzipEtag()))
+				.andExpect(status().isOk());
+		System.setProperty(KEY, "changed");
+		cache.refresh();
+		mvc.perform(get("/v2/getAll").header(HttpHeaders.IF_NONE_MATCH, snapshot.etag()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, cache.current().etag()));
+	}
+
+	private MockHttpServletResponse getAll(String accept, String acceptEncoding) throws Exception {
+		var request = get("/v2/getAll");
+		if (accept != null) {
+			request.header(HttpHeaders.ACCEPT, accept);
+		}
+		if (acceptEncoding != null) {
+			request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+		return mvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse();
+	}
+}
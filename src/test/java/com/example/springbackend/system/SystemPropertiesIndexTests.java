@@ -0,0 +1,78 @@
+package com.example.springbackend.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemPropertiesIndexTests {
+
+	private final SystemPropertiesIndex index = new SystemPropertiesIndex(new TreeMap<>(Map.of(
+			"java.home", "/jdk",
+			"java.vendor", "Eclipse",
+			"java.version", "21",
+			"java.vm.name", "HotSpot",
+			"java.vm.version", "21+35",
+			"javax.net.debug", "none",
+			"os.arch", "amd64",
+			"os.name", "Linux",
+			"user.dir", "/root")));
+
+	@Test
+	void prefixSelectsAContiguousRange() {
+		assertThat(index.query("os.", null, null, 10).items()).containsOnlyKeys("os.arch", "os.name");
+		assertThat(index.query("java.vm", null, null, 10).items().keySet())
+				.containsExactly("java.vm.name", "java.vm.version");
+		assertThat(index.query("zzz", null, null, 10).items()).isEmpty();
+		assertThat(index.query("", null, null, 100).items()).hasSize(9);
+	}
+
+	@Test
+	void globsMatchWithinThePrefix() {
+		assertThat(query("", "java.*version").keySet()).containsExactly("java.version", "java.vm.version");
+		assertThat(query("", "*.name").keySet()).containsExactly("java.vm.name", "os.name");
+		assertThat(query("", "os.????").keySet()).containsExactly("os.arch", "os.name");
+		assertThat(query("java.vm", "*version").keySet()).containsExactly("java.vm.version");
+		assertThat(query("java", "java.v*").keySet()).containsExactly("java.vendor", "java.version", "java.vm.name",
+				"java.vm.version");
+		assertThat(query("os.", "java.*")).isEmpty();
+		assertThat(query("", "user.dir")).containsExactly(Map.entry("user.dir", "/root"));
+	}
+
+	@Test
+	void cursorPagesThroughEveryMatchOnce() {
+		GlobPattern glob = GlobPattern.compile("*.*");
+		List<String> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PropertyPage page = index.query("", glob, cursor, 2);
+			assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+			seen.addAll(page.items().keySet());
+			cursor = page.nextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(seen).containsExactlyElementsOf(index.query("", glob, null, 100).items().keySet());
+		assertThat(pages).isEqualTo(5);
+	}
+
+	@Test
+	void lastFullPageHasNoCursorWhenNothingFollows() {
+		PropertyPage page = index.query("os.", null, null, 2);
+
+		assertThat(page.items()).hasSize(2);
+		assertThat(page.nextCursor()).isNull();
+		assertThat(index.query("os.", null, "os.arch", 1).items()).containsOnlyKeys("os.name");
+		assertThat(index.query("os.", null, "os.name", 1).items()).isEmpty();
+		assertThat(index.query("os.", null, "a", 1).items()).containsOnlyKeys("os.arch");
+	}
+
+	private Map<String, String> query(String prefix, String glob) {
+		return index.query(prefix, GlobPattern.compile(glob), null, 100).items();
+	}
+}
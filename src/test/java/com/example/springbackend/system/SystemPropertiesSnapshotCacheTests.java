@@ -0,0 +1,50 @@
+package com.example.springbackend.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemPropertiesSnapshotCacheTests {
+
+	private static final String KEY = "springbackend.test.property";
+
+	private final List<Object> events = new ArrayList<>();
+	private final SystemPropertiesSnapshotCache cache = new SystemPropertiesSnapshotCache(new ObjectMapper(), events::add);
+
+	@AfterEach
+	void clearProperty() {
+		System.clearProperty(KEY);
+	}
+
+	@Test
+	void currentServesTheSameSnapshotUntilRefreshSeesAChange() {
+		SystemPropertiesSnapshot first = cache.current();
+		System.setProperty(KEY, "value");
+
+		assertThat(cache.current()).isSameAs(first);
+		SystemPropertiesSnapshot second = cache.refresh();
+		assertThat(second.version()).isEqualTo(first.version() + 1);
+		assertThat(second.properties()).containsEntry(KEY, "value");
+		assertThat(cache.current()).isSameAs(second);
+		assertThat(cache.refresh()).isSameAs(second);
+		assertThat(events).hasSize(2);
+	}
+
+	@Test
+	void refreshDetectsValuesWithEqualHashCodes() {
+		System.setProperty(KEY, "Aa");
+		SystemPropertiesSnapshot before = cache.refresh();
+		System.setProperty(KEY, "BB"); // "Aa".hashCode() == "BB".hashCode()
+
+		SystemPropertiesSnapshot after = cache.refresh();
+
+		assertThat(after).isNotSameAs(before);
+		assertThat(after.properties()).containsEntry(KEY, "BB");
+		assertThat(after.etag()).isNotEqualTo(before.etag());
+	}
+}
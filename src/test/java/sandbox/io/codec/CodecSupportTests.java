@@ -0,0 +1,81 @@
+package sandbox.io.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodecSupportTests {
+
+	@Test
+	void stringsRoundTripIncludingNullEmptyAndUnicode() throws IOException {
+		List<String> values = new ArrayList<>(List.of("", "plain", "ünïcødé ✅ 🪶", "x".repeat(200_000)));
+		values.add(null);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (String value : values) {
+			CodecSupport.writeString(out, value);
+		}
+
+		ByteBufferDataInput buffered = new ByteBufferDataInput(ByteBuffer.wrap(bytes.toByteArray()));
+		DataInputStream streamed = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		for (String value : values) {
+			assertThat(CodecSupport.readString(buffered)).isEqualTo(value);
+			assertThat(CodecSupport.readString(streamed)).isEqualTo(value);
+		}
+	}
+
+	@Test
+	void lengthsLargerThanTheInputAreRejectedBeforeAllocating() throws IOException {
+		byte[] hostile = varInt(Integer.MAX_VALUE);
+
+		assertThatThrownBy(() -> CodecSupport.readString(new ByteBufferDataInput(ByteBuffer.wrap(hostile))))
+				.isInstanceOf(EOFException.class);
+		assertThatThrownBy(() -> CodecSupport.readSize(new ByteBufferDataInput(ByteBuffer.wrap(hostile))))
+				.isInstanceOf(EOFException.class);
+		assertThatThrownBy(() -> CodecSupport.readString(new DataInputStream(new ByteArrayInputStream(hostile))))
+				.isInstanceOf(EOFException.class);
+	}
+
+	@Test
+	void negativeLengthsAreRejected() throws IOException {
+		byte[] negative = varInt(-5);
+
+		assertThatThrownBy(() -> CodecSupport.readString(new ByteBufferDataInput(ByteBuffer.wrap(negative))))
+				.isInstanceOf(StreamCorruptedException.class);
+	}
+
+	@Test
+	void readLineMatchesDataInputStream() throws IOException {
+		byte[] text = "first\nsecond\r\nthird\rfourth\n\nlast".getBytes(StandardCharsets.ISO_8859_1);
+		ByteBufferDataInput buffered = new ByteBufferDataInput(ByteBuffer.wrap(text));
+		@SuppressWarnings("deprecation")
+		DataInputStream streamed = new DataInputStream(new ByteArrayInputStream(text));
+
+		String line;
+		do {
+			@SuppressWarnings("deprecation")
+			String expected = streamed.readLine();
+			line = buffered.readLine();
+			assertThat(line).isEqualTo(expected);
+		} while (line != null);
+	}
+
+	private static byte[] varInt(int value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		CodecSupport.writeVarInt(new DataOutputStream(bytes), value);
+		return bytes.toByteArray();
+	}
+}
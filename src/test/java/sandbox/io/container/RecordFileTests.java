@@ -0,0 +1,111 @@
+package sandbox.io.container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordFileTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void roundTripsAndReopensWithReplacedIds() throws IOException {
+		Path file = dir.resolve("records.bin");
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			for (long id = 0; id < 1_000; id++) {
+				writer.append(id, payload(id, "v1"));
+			}
+		}
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			assertThat(writer.size()).isEqualTo(1_000);
+			writer.append(7, payload(7, "v2"));
+			writer.append(5_000, new byte[200_000]);
+		}
+
+		try (RecordFileReader reader = new RecordFileReader(file)) {
+			assertThat(reader.size()).isEqualTo(1_001);
+			assertThat(reader.read(3)).isEqualTo(payload(3, "v1"));
+			assertThat(reader.read(7)).isEqualTo(payload(7, "v2"));
+			assertThat(reader.read(5_000)).hasSize(200_000);
+			assertThat(reader.contains(1_000)).isFalse();
+		}
+	}
+
+	@Test
+	void secondWriterIsRefusedWhileTheFirstIsOpen() throws IOException {
+		Path file = dir.resolve("locked.bin");
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			writer.append(1, payload(1, "v1"));
+			assertThatThrownBy(() -> new RecordFileWriter(file)).isInstanceOf(IOException.class)
+					.hasMessageContaining("already open");
+		}
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			assertThat(writer.size()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void footerWithABadIndexOffsetIsNotTrusted() throws IOException {
+		Path file = dir.resolve("damaged.bin");
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			for (long id = 0; id < 10; id++) {
+				writer.append(id, payload(id, "v1"));
+			}
+		}
+		long size = Files.size(file);
+		for (long bogusOffset : new long[] {size + 1_000, 9, -1}) {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.allocate(8).putLong(0, bogusOffset), size - RecordFileWriter.FOOTER_SIZE);
+			}
+
+			try (RecordFileWriter writer = new RecordFileWriter(file)) {
+				assertThat(writer.size()).isEqualTo(10);
+			}
+			size = Files.size(file);
+			try (RecordFileReader reader = new RecordFileReader(file)) {
+				assertThat(reader.size()).isEqualTo(10);
+				assertThat(reader.read(9)).isEqualTo(payload(9, "v1"));
+			}
+		}
+	}
+
+	@Test
+	void writerThatNeverClosedIsRecoveredUpToTheLastCompleteRecord() throws IOException {
+		Path file = dir.resolve("crashed.bin");
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			for (long id = 0; id < 5; id++) {
+				writer.append(id, payload(id, "v1"));
+			}
+		}
+		long recordsEnd;
+		try (RecordFileReader reader = new RecordFileReader(file)) {
+			recordsEnd = Files.size(file) - RecordFileWriter.FOOTER_SIZE - (long) reader.size() * RecordFileWriter.INDEX_ENTRY_SIZE;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.truncate(recordsEnd - 3); // index and footer gone, last payload cut short
+		}
+
+		try (RecordFileWriter writer = new RecordFileWriter(file)) {
+			assertThat(writer.size()).isEqualTo(4);
+		}
+		try (RecordFileReader reader = new RecordFileReader(file)) {
+			assertThat(reader.size()).isEqualTo(4);
+			assertThat(reader.contains(4)).isFalse();
+		}
+	}
+
+	private static byte[] payload(long id, String version) {
+		return ("record " + id + " " + version).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,90 @@
+package sandbox.io.input.objectinputstream;
+
+import org.junit.jupiter.api.Test;
+import sandbox.io.output.objectoutputstream.Company;
+import sandbox.io.output.objectoutputstream.Employee;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeserializationPolicyTests {
+
+	private static final DeserializationPolicy POLICY = DeserializationPolicy.DEFAULT;
+
+	@Test
+	void malformedNamesAreRejectedInsteadOfThrowing() {
+		for (String name : List.of("", "[", "[[", "[L", "[L;", "[Ljava.lang.String", "[X", "[II", "[Lsandbox.io.Foo;x",
+				"sandbox.io.Foo;", "[[Lsandbox.io.[Foo;")) {
+			assertThat(POLICY.allows(name)).as(name).isFalse();
+		}
+	}
+
+	@Test
+	void arraysAreJudgedByTheirElementType() {
+		assertThat(POLICY.allows("[B")).isTrue();
+		assertThat(POLICY.allows("[[J")).isTrue();
+		assertThat(POLICY.allows("[Ljava.lang.String;")).isTrue();
+		assertThat(POLICY.allows("[[Lsandbox.io.input.objectinputstream.Person;")).isTrue();
+		assertThat(POLICY.allows("[Ljava.util.PriorityQueue;")).isFalse();
+	}
+
+	@Test
+	void defaultPolicyAllowsOnlyTheCollectionsTheSandboxUses() {
+		assertThat(POLICY.allows("java.util.ArrayList")).isTrue();
+		assertThat(POLICY.allows("java.util.CollSer")).isTrue();
+		for (String gadget : List.of("java.util.PriorityQueue", "java.util.TreeMap", "java.util.HashMap",
+				"java.util.HashSet", "java.lang.reflect.Proxy", "java.lang.Runtime")) {
+			assertThat(POLICY.allows(gadget)).as(gadget).isFalse();
+		}
+	}
+
+	@Test
+	void sandboxObjectGraphsReadBackUnderTheDefaultPolicy() throws Exception {
+		List<Company> companies = List.of(
+				new Company("ArrayList", new ArrayList<>(List.of(new Employee("Alice", 1, "secret")))),
+				new Company("List.of", List.of(new Employee("Bob", 2, "secret"), new Employee("Carol", 3, "secret"))),
+				new Company("Arrays.asList", Arrays.asList(new Employee("Dave", 4, "secret"))));
+		for (Company company : companies) {
+			Object read = read(serialize(company));
+			assertThat(read).hasToString(company.toString().replace("password='secret'", "password='null'"));
+		}
+		assertThat(read(serialize(new Person("Alice", 30, "secret")))).isInstanceOf(Person.class);
+	}
+
+	@Test
+	void gadgetEntryPointsAreRefused() throws IOException {
+		PriorityQueue<String> queue = new PriorityQueue<>(List.of("a", "b"));
+		TreeMap<String, Integer> map = new TreeMap<>();
+		map.put("a", 1);
+
+		for (Object gadget : List.of(queue, map)) {
+			byte[] bytes = serialize(gadget);
+			assertThatThrownBy(() -> read(bytes)).isInstanceOf(InvalidClassException.class);
+		}
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object read(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (CustomObjectInputStream in = new CustomObjectInputStream(new ByteArrayInputStream(bytes), POLICY)) {
+			return in.readObject();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteTokenizerTests {
+
+	private static final ByteTokenizer SCALAR =
+			new ByteTokenizer(OperatorTrie.NONE, ByteTokenizer.Encoding.UTF_8, ScalarRunScanner.INSTANCE);
+	private static final ByteTokenizer BEST =
+			new ByteTokenizer(OperatorTrie.NONE, ByteTokenizer.Encoding.UTF_8, RunScanners.best());
+
+	@Test
+	void utf8ModeMatchesACodePointReference() throws IOException {
+		Random random = new Random(5);
+		int[] unusual = "éüß ΩЖ日本語 ٣४ 😀𝔸　.,=!ª".codePoints().toArray();
+		String ascii = "abcdefghijklmnopqrstuvwxyz0123456789 ";
+		for (int round = 0; round < 2_000; round++) {
+			StringBuilder text = new StringBuilder();
+			int length = random.nextInt(300);
+			for (int i = 0; i < length; i++) {
+				text.appendCodePoint(random.nextInt(4) == 0
+						? unusual[random.nextInt(unusual.length)]
+						: ascii.charAt(random.nextInt(ascii.length())));
+			}
+			byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+			List<String> expected = reference(text.toString());
+
+			assertThat(TokenizerFixtures.collect(SCALAR, bytes)).as(text.toString()).isEqualTo(expected);
+			assertThat(TokenizerFixtures.collect(BEST, bytes)).as(text.toString()).isEqualTo(expected);
+			assertThat(streamed(SCALAR, bytes, 1 + random.nextInt(5))).as(text.toString()).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void malformedUtf8TokenizesTheSameFromArraysAndStreams() throws IOException {
+		Random random = new Random(6);
+		for (int round = 0; round < 2_000; round++) {
+			byte[] bytes = new byte[random.nextInt(200)];
+			random.nextBytes(bytes);
+
+			List<String> expected = TokenizerFixtures.collect(SCALAR, bytes);
+			assertThat(TokenizerFixtures.collect(BEST, bytes)).isEqualTo(expected);
+			assertThat(streamed(SCALAR, bytes, 1 + random.nextInt(3))).isEqualTo(expected);
+		}
+	}
+
+	/**
+	 * Runs of letters and digits per {@link Character}, every other non-whitespace code point on
+	 * its own; positions are UTF-8 byte offsets.
+	 */
+	private static List<String> reference(String text) {
+		List<String> tokens = new ArrayList<>();
+		int[] codePoints = text.codePoints().toArray();
+		long position = 0;
+		for (int i = 0; i < codePoints.length; ) {
+			int start = i;
+			long startPosition = position;
+			if (isLetterOrDigit(codePoints[i])) {
+				boolean letters = false;
+				boolean digits = false;
+				while (i < codePoints.length && isLetterOrDigit(codePoints[i])) {
+					letters |= Character.isLetter(codePoints[i]);
+					digits |= Character.isDigit(codePoints[i]);
+					position += utf8Length(codePoints[i++]);
+				}
+				TokenType type = letters && digits ? TokenType.MIXED : letters ? TokenType.WORD : TokenType.NUMBER;
+				tokens.add(token(type, codePoints, start, i, startPosition));
+			} else {
+				position += utf8Length(codePoints[i++]);
+				if (!Character.isWhitespace(codePoints[start])) {
+					tokens.add(token(TokenType.SYMBOL, codePoints, start, i, startPosition));
+				}
+			}
+		}
+		return tokens;
+	}
+
+	private static String token(TokenType type, int[] codePoints, int from, int to, long position) {
+		byte[] utf8 = new String(codePoints, from, to - from).getBytes(StandardCharsets.UTF_8);
+		return type + ":" + new String(utf8, StandardCharsets.ISO_8859_1) + "@" + position;
+	}
+
+	private static boolean isLetterOrDigit(int codePoint) {
+		return Character.isLetter(codePoint) || Character.isDigit(codePoint);
+	}
+
+	private static int utf8Length(int codePoint) {
+		return new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * Tokenizes through the stream path with reads of at most {@code chunk} bytes, so tokens and
+	 * multi-byte sequences straddle buffer refills.
+	 */
+	private static List<String> streamed(ByteTokenizer tokenizer, byte[] bytes, int chunk) throws IOException {
+		InputStream input = new ByteArrayInputStream(bytes) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, chunk));
+			}
+		};
+		List<String> tokens = new ArrayList<>();
+		tokenizer.tokenize(input, TokenizerFixtures.collector(tokens));
+		return tokens;
+	}
+}
@@ -0,0 +1,79 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalTokenizerTests {
+
+	@Test
+	void randomEditsKeepTokensAndLinesEqualToAFullRetokenization() {
+		Random random = new Random(11);
+		int[] alphabet = "ab1 \n=>>->.é日😀x\t".codePoints().toArray();
+		String insertable = "ab1 \n=>-.xé";
+		for (ByteTokenizer.Encoding encoding : ByteTokenizer.Encoding.values()) {
+			ByteTokenizer tokenizer = new ByteTokenizer(OperatorTrie.JAVA, encoding);
+			for (int document = 0; document < 100; document++) {
+				StringBuilder text = new StringBuilder();
+				int length = random.nextInt(3000);
+				for (int i = 0; i < length; i++) {
+					text.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+				}
+				byte[] current = text.toString().getBytes(StandardCharsets.UTF_8);
+				IncrementalTokenizer incremental = new IncrementalTokenizer(tokenizer, current);
+
+				for (int edit = 0; edit < 50; edit++) {
+					int offset = random.nextInt(current.length + 1);
+					int removed = random.nextInt(Math.min(10, current.length - offset) + 1);
+					byte[] inserted = new byte[random.nextInt(8)];
+					for (int i = 0; i < inserted.length; i++) {
+						inserted[i] = (byte) insertable.charAt(random.nextInt(insertable.length()));
+					}
+					if (random.nextBoolean()) { // stray continuation and lead bytes
+						int invalid = random.nextInt(inserted.length + 1);
+						for (int i = 0; i < invalid; i++) {
+							inserted[i] = (byte) (0x80 + random.nextInt(128));
+						}
+					}
+					byte[] next = new byte[current.length - removed + inserted.length];
+					System.arraycopy(current, 0, next, 0, offset);
+					System.arraycopy(inserted, 0, next, offset, inserted.length);
+					System.arraycopy(current, offset + removed, next, offset + inserted.length, current.length - offset - removed);
+
+					if (edit % 2 == 0) {
+						incremental.applyEdit(offset, removed, inserted);
+					} else {
+						incremental.update(next);
+					}
+					current = next;
+
+					assertThat(tokens(incremental)).isEqualTo(TokenizerFixtures.collect(tokenizer, current));
+					assertLines(incremental, current);
+				}
+			}
+		}
+	}
+
+	private static List<String> tokens(IncrementalTokenizer incremental) {
+		List<String> tokens = new ArrayList<>();
+		incremental.forEach(TokenizerFixtures.collector(tokens));
+		return tokens;
+	}
+
+	private static void assertLines(IncrementalTokenizer incremental, byte[] source) {
+		int line = 0;
+		for (int position = 0; position <= source.length; position++) {
+			assertThat(incremental.lineOf(position)).isEqualTo(line);
+			if (position < source.length && source[position] == '\n') {
+				line++;
+				assertThat(incremental.lineStart(line)).isEqualTo(position + 1);
+			}
+		}
+		assertThat(incremental.lineCount()).isEqualTo(line + 1);
+	}
+}
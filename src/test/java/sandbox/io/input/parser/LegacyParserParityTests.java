@@ -0,0 +1,122 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+import sandbox.io.input.parser.advancedtokenparser.AdvancedTokenParser;
+import sandbox.io.input.parser.simpletokenparser.SimpleTokenParser;
+import sandbox.io.input.parser.smarttokenparser.SmarterTokenParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The parsers moved from a per-char PushbackInputStream loop to {@link ByteTokenizer}; on ASCII
+ * input they must still print exactly what the old loops printed.
+ */
+class LegacyParserParityTests {
+
+	private static final Set<String> ADVANCED_OPERATORS = Set.of("==", "!=", ">=", "<=", "++", "--", "&&", "||", "::");
+
+	@Test
+	void simpleTokenParserPrintsWhatTheLegacyLoopPrinted() throws IOException {
+		assertParity(SimpleTokenParser::parse, token -> token, Set.of(), token -> token);
+	}
+
+	@Test
+	void smarterTokenParserPrintsWhatTheLegacyLoopPrinted() throws IOException {
+		assertParity(SmarterTokenParser::parse, token -> classify(token, "Symbol: "), Set.of(),
+				symbol -> classify(symbol, "Symbol: "));
+	}
+
+	@Test
+	void advancedTokenParserPrintsWhatTheLegacyLoopPrinted() throws IOException {
+		assertParity(AdvancedTokenParser::parse, token -> classify(token, "Mixed/Unknown: "), ADVANCED_OPERATORS,
+				symbol -> "Symbol: " + symbol);
+	}
+
+	private static void assertParity(Parser parser, UnaryOperator<String> word, Set<String> operators,
+									 UnaryOperator<String> symbol) throws IOException {
+		Random random = new Random(3);
+		for (int round = 0; round < 500; round++) {
+			byte[] input = randomAscii(random, random.nextInt(400));
+			List<String> actual = new ArrayList<>();
+			parser.parse(new ByteArrayInputStream(input), actual::add);
+			assertThat(actual).as("input %s", new String(input)).isEqualTo(legacy(input, word, operators, symbol));
+		}
+	}
+
+	/**
+	 * Printable ASCII and the whitespace the old loops skipped, weighted towards letters and digits.
+	 */
+	private static byte[] randomAscii(Random random, int length) {
+		String common = "abcxyzABC0129    \n\t=!<>+-&|:";
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (random.nextInt(4) == 0 ? 0x20 + random.nextInt(0x5f) : common.charAt(random.nextInt(common.length())));
+		}
+		return bytes;
+	}
+
+	/**
+	 * The loop the parsers ran before ByteTokenizer, collecting lines instead of printing them.
+	 */
+	private static List<String> legacy(byte[] bytes, UnaryOperator<String> word, Set<String> operators,
+									   UnaryOperator<String> symbol) throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (PushbackInputStream input = new PushbackInputStream(new ByteArrayInputStream(bytes), 2)) {
+			ByteArrayOutputStream tokenBuffer = new ByteArrayOutputStream();
+			int data;
+			while ((data = input.read()) != -1) {
+				char ch = (char) data;
+				if (Character.isLetterOrDigit(ch)) {
+					tokenBuffer.write(ch);
+					continue;
+				}
+				if (tokenBuffer.size() > 0) {
+					lines.add(word.apply(tokenBuffer.toString()));
+					tokenBuffer.reset();
+				}
+				if (Character.isWhitespace(ch)) {
+					continue;
+				}
+				int second = input.read();
+				if (second != -1 && operators.contains("" + ch + (char) second)) {
+					lines.add(symbol.apply("" + ch + (char) second));
+				} else {
+					if (second != -1) {
+						input.unread(second);
+					}
+					lines.add(symbol.apply(Character.toString(ch)));
+				}
+			}
+			if (tokenBuffer.size() > 0) {
+				lines.add(word.apply(tokenBuffer.toString()));
+			}
+		}
+		return lines;
+	}
+
+	private static String classify(String token, String otherwise) {
+		if (token.chars().allMatch(Character::isDigit)) {
+			return "Number: " + token;
+		} else if (token.chars().allMatch(Character::isLetter)) {
+			return "Word: " + token;
+		}
+		return otherwise + token;
+	}
+
+	@FunctionalInterface
+	private interface Parser {
+		void parse(InputStream input, Consumer<String> out) throws IOException;
+	}
+}
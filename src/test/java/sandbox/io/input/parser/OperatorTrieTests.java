@@ -0,0 +1,62 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class OperatorTrieTests {
+
+	@Test
+	void longestOperatorWins() {
+		assertThat(match(">>>=")).isEqualTo(4);
+		assertThat(match(">>>= 1")).isEqualTo(4);
+		assertThat(match(">>=")).isEqualTo(3);
+		assertThat(match(">>>")).isEqualTo(3);
+		assertThat(match(">>x")).isEqualTo(2);
+		assertThat(match(">=>")).isEqualTo(2);
+		// JAVA only holds multi-character operators; a lone '>' is left to the tokenizer.
+		assertThat(match(">")).isZero();
+		assertThat(match("> >")).isZero();
+		assertThat(OperatorTrie.of(">", ">>>=").longestMatch(bytes(">>>"), 0, 3)).isEqualTo(1);
+	}
+
+	@Test
+	void inputEndingInsideAnOperatorFallsBackToTheLongestWholeOne() {
+		byte[] source = bytes("a >>>= b");
+
+		assertThat(OperatorTrie.JAVA.longestMatch(source, 2, 6)).isEqualTo(4);
+		assertThat(OperatorTrie.JAVA.longestMatch(source, 2, 5)).isEqualTo(3);
+		assertThat(OperatorTrie.JAVA.longestMatch(source, 2, 4)).isEqualTo(2);
+		assertThat(OperatorTrie.JAVA.longestMatch(source, 2, 3)).isZero();
+		assertThat(OperatorTrie.JAVA.longestMatch(source, 2, 2)).isZero();
+		assertThat(OperatorTrie.of("...").longestMatch(bytes(".."), 0, 2)).isZero();
+	}
+
+	@Test
+	void maxLengthIsTheLongestOperator() {
+		assertThat(OperatorTrie.JAVA.maxLength()).isEqualTo(4);
+		assertThat(OperatorTrie.NONE.maxLength()).isZero();
+		assertThat(OperatorTrie.NONE.longestMatch(bytes(">>="), 0, 3)).isZero();
+	}
+
+	@Test
+	void operatorsTheTokenizerCannotRouteAreRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> OperatorTrie.of(""));
+		assertThatIllegalArgumentException().isThrownBy(() -> OperatorTrie.of("a="));
+		assertThatIllegalArgumentException().isThrownBy(() -> OperatorTrie.of("=1"));
+		assertThatIllegalArgumentException().isThrownBy(() -> OperatorTrie.of("= "));
+		assertThatIllegalArgumentException().isThrownBy(() -> OperatorTrie.of("¬="));
+	}
+
+	private static int match(String text) {
+		byte[] source = bytes(text);
+		return OperatorTrie.JAVA.longestMatch(source, 0, source.length);
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,84 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelTokenizerTests {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	@TempDir
+	Path dir;
+
+	@AfterAll
+	static void shutdown() {
+		POOL.shutdown();
+	}
+
+	@Test
+	void forEachTokenMatchesSequentialTokenizationForAnySegmentSize() throws IOException {
+		ByteTokenizer tokenizer = new ByteTokenizer(OperatorTrie.JAVA, ByteTokenizer.Encoding.UTF_8);
+		byte[] text = TokenizerFixtures.randomText(new Random(13), 200_000);
+		Path file = Files.write(dir.resolve("input.txt"), text);
+		List<String> expected = TokenizerFixtures.collect(tokenizer, text);
+
+		for (int segmentSize : new int[] {1, 7, 64, 4096, 1 << 20}) {
+			List<String> actual = new ArrayList<>();
+			long bytes = new ParallelTokenizer(tokenizer, POOL, segmentSize)
+					.forEachToken(file, TokenizerFixtures.collector(actual));
+
+			assertThat(bytes).isEqualTo(text.length);
+			assertThat(actual).as("segment size %d", segmentSize).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void aggregateMergesSegmentsInFileOrder() throws IOException {
+		ByteTokenizer tokenizer = new ByteTokenizer(OperatorTrie.JAVA);
+		byte[] text = TokenizerFixtures.randomText(new Random(29), 100_000);
+		Path file = Files.write(dir.resolve("input.txt"), text);
+		List<String> expected = TokenizerFixtures.collect(tokenizer, text);
+
+		Collected merged = new ParallelTokenizer(tokenizer, POOL, 333)
+				.aggregate(file, Collected::new, (left, right) -> {
+					left.tokens.addAll(right.tokens);
+					return left;
+				});
+
+		assertThat(merged.tokens).isEqualTo(expected);
+	}
+
+	@Test
+	void tokenLongerThanASegmentStaysWhole() throws IOException {
+		String word = "x".repeat(10_000);
+		Path file = Files.writeString(dir.resolve("long.txt"), "a " + word + " b", StandardCharsets.ISO_8859_1);
+
+		List<String> actual = new ArrayList<>();
+		new ParallelTokenizer(new ByteTokenizer(), POOL, 100).forEachToken(file, TokenizerFixtures.collector(actual));
+
+		assertThat(actual).containsExactly("WORD:a@0", "WORD:" + word + "@2", "WORD:b@10003");
+	}
+
+	private static final class Collected implements TokenVisitor {
+
+		final List<String> tokens = new ArrayList<>();
+		private final TokenVisitor collector = TokenizerFixtures.collector(tokens);
+
+		@Override
+		public void token(TokenType type, byte[] source, int offset, int length, long position) {
+			collector.token(type, source, offset, length, position);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Surefire starts the test JVM with the Vector API module (see pom.xml), so {@link RunScanners#best()}
+ * is the vector scanner here and is checked against the scalar one at every start position.
+ */
+class RunScannerTests {
+
+	private static final String ALPHABET = "abcXYZ0129 \t\n\u000b\u001c\u001f=+-.,@[`{/:";
+
+	@Test
+	void vectorScannerIsPickedWhenTheModuleIsPresent() {
+		assertThat(RunScanners.best().getClass().getSimpleName()).isEqualTo("VectorRunScanner");
+
+		String previous = System.setProperty("tokenizer.vector", "false");
+		try {
+			assertThat(RunScanners.best()).isSameAs(ScalarRunScanner.INSTANCE);
+		} finally {
+			if (previous == null) {
+				System.clearProperty("tokenizer.vector");
+			} else {
+				System.setProperty("tokenizer.vector", previous);
+			}
+		}
+	}
+
+	@Test
+	void vectorRunsMatchScalarRuns() {
+		RunScanner vector = RunScanners.best();
+		RunScanner scalar = ScalarRunScanner.INSTANCE;
+		Random random = new Random(7);
+		for (int round = 0; round < 600; round++) {
+			byte[] source = randomBytes(random, round % 3, random.nextInt(400));
+			for (byte[] classes : new byte[][] {ByteTokenizer.CLASSES, ByteTokenizer.ASCII_CLASSES}) {
+				for (int from = 0; from < source.length; from++) {
+					int to = source.length - random.nextInt(Math.min(3, source.length - from));
+					assertThat(vector.scanWord(source, from, to, classes))
+							.as("scanWord round %d from %d", round, from)
+							.isEqualTo(scalar.scanWord(source, from, to, classes));
+					assertThat(vector.skipWhitespace(source, from, to, classes))
+							.as("skipWhitespace round %d from %d", round, from)
+							.isEqualTo(scalar.skipWhitespace(source, from, to, classes));
+				}
+			}
+		}
+	}
+
+	@Test
+	void longRunsCrossManyVectors() {
+		byte[] source = ("a".repeat(1_000) + "1".repeat(513) + " ".repeat(700) + "x").getBytes();
+		RunScanner vector = RunScanners.best();
+		long word = vector.scanWord(source, 0, source.length, ByteTokenizer.CLASSES);
+
+		assertThat(RunScanner.endOf(word)).isEqualTo(1_513);
+		assertThat(RunScanner.kindsOf(word)).isEqualTo(ByteTokenizer.WORD_CHAR);
+		assertThat(vector.skipWhitespace(source, 1_513, source.length, ByteTokenizer.CLASSES)).isEqualTo(2_213);
+	}
+
+	/**
+	 * Mode 0: any byte; 1: ASCII letters, digits, whitespace and punctuation; 2: mostly word
+	 * characters with the odd non-ASCII byte.
+	 */
+	private static byte[] randomBytes(Random random, int mode, int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = switch (mode) {
+				case 0 -> (byte) random.nextInt(256);
+				case 1 -> (byte) ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+				default -> random.nextInt(40) == 0
+						? (byte) (0x80 + random.nextInt(128))
+						: (byte) "abcdefghij0123456789  ".charAt(random.nextInt(22));
+			};
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,67 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymbolTableTests {
+
+	@Test
+	void idsStayStableAcrossRehashes() {
+		// Sixteen slots to start with, so 5 000 symbols go through nine resizes.
+		SymbolTable table = new SymbolTable(1, StandardCharsets.UTF_8);
+		int[] ids = new int[5_000];
+		for (int i = 0; i < ids.length; i++) {
+			byte[] name = bytes("sym" + i);
+			ids[i] = table.intern(name, 0, name.length);
+			assertThat(ids[i]).isEqualTo(i);
+		}
+
+		assertThat(table.size()).isEqualTo(ids.length);
+		for (int i = 0; i < ids.length; i++) {
+			byte[] name = bytes("  sym" + i + "  ");
+			assertThat(table.find(name, 2, name.length - 4)).isEqualTo(ids[i]);
+			assertThat(table.intern(name, 2, name.length - 4)).isEqualTo(ids[i]);
+			assertThat(table.name(ids[i])).isEqualTo("sym" + i);
+			assertThat(table.length(ids[i])).isEqualTo(name.length - 4);
+		}
+		assertThat(table.size()).isEqualTo(ids.length);
+	}
+
+	@Test
+	void absentSymbolsAreNotFound() {
+		SymbolTable table = new SymbolTable();
+		byte[] source = bytes("alpha alphabet");
+		table.intern(source, 0, 5);
+
+		assertThat(table.find(source, 6, 5)).isZero();
+		assertThat(table.find(source, 6, 8)).isEqualTo(-1);
+		assertThat(table.find(source, 0, 4)).isEqualTo(-1);
+		assertThat(table.find(new byte[0], 0, 0)).isEqualTo(-1);
+		assertThat(table.size()).isEqualTo(1);
+	}
+
+	@Test
+	void symbolsCopyBetweenTables() {
+		SymbolTable first = new SymbolTable();
+		SymbolTable second = new SymbolTable();
+		byte[] source = bytes("x y z");
+		second.intern(source, 2, 1);
+		int x = first.intern(source, 0, 1);
+		int y = first.intern(source, 2, 1);
+
+		assertThat(second.intern(first, y)).isZero();
+		assertThat(second.intern(first, x)).isEqualTo(1);
+		assertThat(second.name(1)).isEqualTo("x");
+
+		byte[] target = new byte[3];
+		second.copyBytes(1, target, 1);
+		assertThat(target).containsExactly(0, 'x', 0);
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+}
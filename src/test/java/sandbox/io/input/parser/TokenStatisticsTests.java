@@ -0,0 +1,74 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TokenStatisticsTests {
+
+	private static final ByteTokenizer TOKENIZER = new ByteTokenizer(OperatorTrie.JAVA, ByteTokenizer.Encoding.UTF_8);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void parallelStatisticsMatchAPlainMapOfStrings() throws IOException {
+		byte[] text = TokenizerFixtures.randomText(new Random(19), 400_000);
+		Path file = Files.write(dir.resolve("input.txt"), text);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		TokenStatistics statistics;
+		try {
+			statistics = new ParallelTokenizer(TOKENIZER, pool, 10_000)
+					.aggregate(file, () -> new TokenStatistics(StandardCharsets.UTF_8), TokenStatistics::merge);
+		} finally {
+			pool.shutdown();
+		}
+
+		Map<TokenType, Map<String, Long>> expected = new EnumMap<>(TokenType.class);
+		TOKENIZER.tokenize(text, (type, source, offset, length, position) -> expected
+				.computeIfAbsent(type, t -> new HashMap<>())
+				.merge(new String(source, offset, length, StandardCharsets.UTF_8), 1L, Long::sum));
+
+		for (TokenType type : TokenType.values()) {
+			Map<String, Long> counts = expected.getOrDefault(type, Map.of());
+			assertThat(statistics.distinct(type)).as("distinct %s", type).isEqualTo(counts.size());
+			assertThat(statistics.total(type)).as("total %s", type)
+					.isEqualTo(counts.values().stream().mapToLong(Long::longValue).sum());
+			counts.forEach((token, count) -> assertThat(statistics.count(type, token)).as(token).isEqualTo(count));
+
+			List<TokenStatistics.TokenCount> top = statistics.top(type, 10);
+			assertThat(top).extracting(TokenStatistics.TokenCount::count).containsExactlyElementsOf(
+					counts.values().stream().sorted(Comparator.reverseOrder()).limit(10).toList());
+			top.forEach(entry -> assertThat(counts.get(entry.token())).isEqualTo(entry.count()));
+		}
+		assertThat(statistics.count(TokenType.WORD, "not-in-the-input")).isZero();
+	}
+
+	@Test
+	void topHandlesZeroAndRejectsNegativeK() {
+		TokenStatistics statistics = new TokenStatistics(StandardCharsets.UTF_8);
+		TOKENIZER.tokenize("b a b c b a".getBytes(StandardCharsets.UTF_8), statistics);
+
+		assertThat(statistics.top(TokenType.WORD, 0)).isEmpty();
+		assertThat(statistics.top(TokenType.WORD, 2)).containsExactly(
+				new TokenStatistics.TokenCount("b", 3), new TokenStatistics.TokenCount("a", 2));
+		assertThat(statistics.top(TokenType.WORD, 10)).hasSize(3);
+		assertThat(statistics.top(TokenType.NUMBER, 10)).isEmpty();
+		assertThatIllegalArgumentException().isThrownBy(() -> statistics.top(TokenType.WORD, -1));
+	}
+}
@@ -0,0 +1,114 @@
+package sandbox.io.input.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenStreamTests {
+
+	private static final ByteTokenizer TOKENIZER = new ByteTokenizer(OperatorTrie.JAVA, ByteTokenizer.Encoding.UTF_8);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void roundTripsFixedWidthAndDeltaStreamsAcrossChunks() throws IOException {
+		byte[] text = TokenizerFixtures.randomText(new Random(5), 50_000);
+		List<String> expected = new ArrayList<>();
+		TOKENIZER.tokenize(text, (type, source, offset, length, position) ->
+				expected.add(type + "@" + position + "+" + length));
+
+		for (boolean deltaEncoded : new boolean[] {false, true}) {
+			Path file = dir.resolve("tokens-" + deltaEncoded);
+			try (TokenStreamWriter writer = new TokenStreamWriter(file, deltaEncoded)) {
+				TOKENIZER.tokenize(text, writer);
+				writer.finish();
+			}
+
+			for (int chunkSize : new int[] {64, TokenStreamReader.DEFAULT_CHUNK_SIZE}) {
+				try (TokenStreamReader reader = new TokenStreamReader(file, chunkSize)) {
+					List<String> actual = new ArrayList<>();
+					reader.forEach((type, position, length) -> actual.add(type + "@" + position + "+" + length));
+					assertThat(actual).as("delta %s, chunk %d", deltaEncoded, chunkSize).isEqualTo(expected);
+
+					if (!deltaEncoded) {
+						for (long i = 0; i < reader.count(); i += 97) {
+							String token = reader.typeAt(i) + "@" + reader.positionAt(i) + "+" + reader.lengthAt(i);
+							assertThat(token).isEqualTo(expected.get((int) i));
+						}
+					}
+				}
+			}
+		}
+		assertThat(listDir()).containsExactlyInAnyOrder("tokens-false", "tokens-true");
+	}
+
+	@Test
+	void failedRunLeavesTheTargetAloneAndCleansUp() throws IOException {
+		Path file = Files.writeString(dir.resolve("tokens"), "previous");
+
+		assertThatThrownBy(() -> {
+			try (TokenStreamWriter writer = new TokenStreamWriter(file, true)) {
+				TOKENIZER.tokenize("a b c".getBytes(), writer);
+				throw new IllegalStateException("tokenizing failed");
+			}
+		}).hasMessage("tokenizing failed");
+
+		assertThat(Files.readString(file)).isEqualTo("previous");
+		assertThat(listDir()).containsExactly("tokens");
+	}
+
+	@Test
+	void truncatedOrCorruptHeadersFailAtOpen() throws IOException {
+		Path file = dir.resolve("tokens");
+		try (TokenStreamWriter writer = new TokenStreamWriter(file, false)) {
+			TOKENIZER.tokenize("alpha + 42".getBytes(), writer);
+			writer.finish();
+		}
+		byte[] good = Files.readAllBytes(file);
+
+		Path truncated = Files.write(dir.resolve("truncated"), Arrays.copyOf(good, good.length - 1));
+		assertThatThrownBy(() -> new TokenStreamReader(truncated)).isInstanceOf(IOException.class);
+
+		byte[] corrupt = good.clone();
+		ByteBuffer.wrap(corrupt).putLong(8, 1_000); // token count no longer matches the columns
+		Path wrongCount = Files.write(dir.resolve("wrong-count"), corrupt);
+		assertThatThrownBy(() -> new TokenStreamReader(wrongCount)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectedTokenLeavesTheColumnsConsistent() throws IOException {
+		Path file = dir.resolve("tokens");
+		try (TokenStreamWriter writer = new TokenStreamWriter(file, true)) {
+			writer.token(TokenType.WORD, new byte[0], 0, 5, 10);
+			assertThatThrownBy(() -> writer.token(TokenType.WORD, new byte[0], 0, 1, 12))
+					.isInstanceOf(IllegalArgumentException.class);
+			writer.token(TokenType.NUMBER, new byte[0], 0, 2, 20);
+			writer.finish();
+		}
+
+		try (TokenStreamReader reader = new TokenStreamReader(file)) {
+			List<String> tokens = new ArrayList<>();
+			reader.forEach((type, position, length) -> tokens.add(type + "@" + position + "+" + length));
+			assertThat(tokens).containsExactly("WORD@10+5", "NUMBER@20+2");
+		}
+	}
+
+	private List<String> listDir() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.map(path -> path.getFileName().toString()).toList();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package sandbox.io.input.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared inputs and helpers for the tokenizer tests.
+ */
+final class TokenizerFixtures {
+
+	private static final String[] PIECES = {
+			"alpha", "beta", "x1", "42", "3.14", "007", "==", "!=", ">>>=", "->", "::", "++", "(", ")", "{", "}",
+			";", ",", ".", "+", "-", "=", "<", ">", "\"", "'", "#", "café", "naïve", "Ωmega", "数字", "٣٤", "€", "😀",
+	};
+	private static final String[] SEPARATORS = {" ", " ", " ", "", "\n", "\t", "  ", "\r\n", " "};
+
+	private TokenizerFixtures() {
+	}
+
+	static byte[] randomText(Random random, int approximateBytes) {
+		StringBuilder text = new StringBuilder(approximateBytes);
+		while (text.length() < approximateBytes) {
+			text.append(PIECES[random.nextInt(PIECES.length)]);
+			text.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+		}
+		return text.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	static List<String> collect(ByteTokenizer tokenizer, byte[] input) {
+		List<String> tokens = new ArrayList<>();
+		tokenizer.tokenize(input, collector(tokens));
+		return tokens;
+	}
+
+	/**
+	 * Records each token as {@code TYPE:text@position}, decoding the bytes as ISO-8859-1 so any
+	 * byte sequence compares exactly.
+	 */
+	static TokenVisitor collector(List<String> tokens) {
+		return (type, source, offset, length, position) -> tokens.add(
+				type + ":" + new String(source, offset, length, StandardCharsets.ISO_8859_1) + "@" + position);
+	}
+}
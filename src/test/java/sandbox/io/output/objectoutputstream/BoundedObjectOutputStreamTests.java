@@ -0,0 +1,58 @@
+package sandbox.io.output.objectoutputstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedObjectOutputStreamTests {
+
+	@Test
+	void resetsOnBytesSinceResetAndStillReadsBack() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		List<BoundedObjectOutputStream.Metrics> resets = new ArrayList<>();
+		BoundedObjectOutputStream.ResetPolicy policy = new BoundedObjectOutputStream.ResetPolicy(0, 16 * 1024, 0);
+		BoundedObjectOutputStream.Metrics last;
+		try (BoundedObjectOutputStream out = new BoundedObjectOutputStream(bytes, policy, resets::add)) {
+			for (int i = 0; i < 5_000; i++) {
+				out.writeObject(new Employee("Employee " + i, i, "secret"));
+			}
+			last = out.metrics();
+		}
+
+		assertThat(resets).isNotEmpty().allSatisfy(metrics -> {
+			assertThat(metrics.bytesSinceReset()).isGreaterThanOrEqualTo(16 * 1024);
+			assertThat(metrics.handleSlotBytes())
+					.isEqualTo(metrics.objectHandles() * BoundedObjectOutputStream.HANDLE_SLOT_BYTES);
+		});
+		assertThat(last.resets()).isEqualTo(resets.size());
+		assertThat(last.bytesSinceReset()).isLessThan(16 * 1024);
+		assertThat(last.peakHandleSlotBytes()).isGreaterThanOrEqualTo(last.handleSlotBytes());
+
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			for (int i = 0; i < 5_000; i++) {
+				assertThat(((Employee) in.readObject()).getId()).isEqualTo(i);
+			}
+		}
+	}
+
+	@Test
+	void slotThresholdCountsObjectHandles() throws Exception {
+		List<BoundedObjectOutputStream.Metrics> resets = new ArrayList<>();
+		// Each Employee brings two handles (itself and its name), so 100 slots fit 50 employees
+		BoundedObjectOutputStream.ResetPolicy policy =
+				new BoundedObjectOutputStream.ResetPolicy(0, 0, 100 * BoundedObjectOutputStream.HANDLE_SLOT_BYTES);
+		try (BoundedObjectOutputStream out = new BoundedObjectOutputStream(new ByteArrayOutputStream(), policy, resets::add)) {
+			for (int i = 0; i < 500; i++) {
+				out.writeObject(new Employee("Employee " + i, i, "secret"));
+			}
+		}
+
+		assertThat(resets).hasSize(10).allSatisfy(metrics -> assertThat(metrics.objectHandles()).isEqualTo(100));
+	}
+}
@@ -0,0 +1,42 @@
+package sandbox.io.output.objectoutputstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyCodecTests {
+
+	@Test
+	void roundTripsThroughTheGeneratedCodecAndDropsTransientFields() throws IOException {
+		Company company = new Company("Ünïcødé Ltd ✅", new ArrayList<>(Arrays.asList(
+				new Employee("Alice", 1, "secret"),
+				null,
+				new Employee(null, -7, "hidden"))));
+
+		byte[] bytes = CompanyCodec.encode(company);
+
+		for (Company decoded : List.of(CompanyCodec.decode(bytes),
+				CompanyCodec.decode(new DataInputStream(new ByteArrayInputStream(bytes))))) {
+			assertThat(decoded.getCompanyName()).isEqualTo(company.getCompanyName());
+			assertThat(decoded.getEmployees()).hasSize(3);
+			assertThat(decoded.getEmployees().get(0).getName()).isEqualTo("Alice");
+			assertThat(decoded.getEmployees().get(1)).isNull();
+			assertThat(decoded.getEmployees().get(2).getId()).isEqualTo(-7);
+			assertThat(decoded.getEmployees().get(2).getName()).isNull();
+			assertThat(decoded.getEmployees().get(0).toString()).contains("password='null'");
+		}
+	}
+
+	@Test
+	void keepsNullAndEmptyListsApart() throws IOException {
+		assertThat(CompanyCodec.decode(CompanyCodec.encode(new Company(null, null))).getEmployees()).isNull();
+		assertThat(CompanyCodec.decode(CompanyCodec.encode(new Company("Empty", List.of()))).getEmployees()).isEmpty();
+	}
+}
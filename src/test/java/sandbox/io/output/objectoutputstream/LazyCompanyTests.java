@@ -0,0 +1,73 @@
+package sandbox.io.output.objectoutputstream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyCompanyTests {
+
+	// magic + two schema versions + "Lazy Co" (1 length byte + 7) + count
+	private static final int OFFSETS_AT = 4 + 8 + 8 + 1 + 7 + 4;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void lazyCompanyMatchesTheEagerDecode() throws IOException {
+		Company company = company(1_000);
+		Path file = dir.resolve("company.lazy");
+		LazyCompany.write(company, file);
+
+		LazyCompany lazy = LazyCompany.open(file, 16);
+		assertThat(lazy.companyName()).isEqualTo("Lazy Co");
+		assertThat(lazy.employeeCount()).isEqualTo(1_000);
+		assertThat(lazy.employee(999).toString()).isEqualTo(new Employee("Employee 999 ✅", 1999, null).toString());
+		assertThat(lazy.employees()).extracting(Employee::getId)
+				.containsExactlyElementsOf(company.getEmployees().stream().map(Employee::getId).toList());
+		assertThat(lazy.toCompany().toString()).isEqualTo(CompanyCodec.decode(CompanyCodec.encode(company)).toString());
+	}
+
+	@Test
+	void nullAndEmptyEmployeeListsOpenAsEmpty() throws IOException {
+		for (List<Employee> employees : Arrays.asList(null, List.<Employee>of())) {
+			Path file = dir.resolve("empty.lazy");
+			LazyCompany.write(new Company("Lazy Co", employees), file);
+			assertThat(LazyCompany.open(file, 0).employees()).isEmpty();
+		}
+	}
+
+	@Test
+	void corruptOffsetsFailWithAnIOException() throws IOException {
+		Path file = dir.resolve("company.lazy");
+		LazyCompany.write(company(3), file);
+		for (int corrupt : new int[] {-1, Integer.MAX_VALUE}) {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.allocate(4).putInt(0, corrupt), OFFSETS_AT + Integer.BYTES);
+			}
+
+			LazyCompany lazy = LazyCompany.open(file, 0);
+			assertThat(lazy.employee(2).getId()).isEqualTo(1002);
+			assertThatThrownBy(() -> lazy.employee(0)).isInstanceOf(IOException.class).hasMessage("Lazy company file is corrupt");
+			assertThatThrownBy(() -> lazy.employee(1)).isInstanceOf(IOException.class).hasMessage("Lazy company file is corrupt");
+		}
+	}
+
+	private static Company company(int size) {
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			employees.add(new Employee("Employee " + i + " ✅", 1000 + i, "secret" + i));
+		}
+		return new Company("Lazy Co", employees);
+	}
+}